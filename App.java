@@ -1,7 +1,8 @@
 /**
  * App Class
  * -
- * Description: Entry point of the application. Launches the IntroGUI which serves as the main menu screen for the game.
+ * Description: Entry point of the application. Launches the IntroGUI which serves as the main menu screen for the game,
+ * or, with --server [port] [hide delay millis], hosts games for remote players with the GameServer.
  * -
  * Version: [V11]
  * Author: [Romeo Maunick - RM]
@@ -10,7 +11,15 @@
 
 public class App {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--server")) {
+            GameServer.main(java.util.Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        // Watch the Event Dispatch Thread and report stalls while the game runs
+        EdtWatchdog.shared();
+
         // Initialize the intro screen for the game
         IntroGUI introGUI = new IntroGUI();
 
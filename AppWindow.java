@@ -0,0 +1,194 @@
+/**
+ * AppWindow Class
+ * -
+ * Description: The one window of the application. It switches between three views with a CardLayout:
+ * - the menu (IntroGUI), built once and shown again whenever the player returns to it;
+ * - the board of the current game (MatchCards), reused when the same board size is played again and
+ *   replaced (the old game disposed) when another size is chosen;
+ * - the results shown when a game is over, a single panel whose labels are refilled for each game.
+ * Nothing is disposed or rebuilt on Play, Restart or Close, so a long session does not churn native
+ * windows, dialogs or images. Without a display no frame is created and the views still switch, which
+ * is how AppWindowSoakTester drives thousands of cycles.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+
+public class AppWindow {
+
+    // View names in the card layout
+    static final String MENU_VIEW = "menu";
+    static final String BOARD_VIEW = "board";
+    static final String RESULTS_VIEW = "results";
+
+    private static AppWindow shared;
+
+    final JFrame frame;                          // Null without a display
+    final CardLayout cardLayout = new CardLayout();
+    final JPanel views = new JPanel(cardLayout);
+    String currentView;
+
+    IntroGUI menu;       // Menu view, built on first use
+    MatchCards game;     // Game on the board view, null until the first Play
+
+    // Results view, filled in for each finished game
+    final JPanel resultsView = new JPanel(new BorderLayout());
+    final JLabel errorsLabel = new JLabel();
+    final JLabel scoreLabel = new JLabel();
+    final JLabel rankLabel = new JLabel();
+    final JButton resultsRestartButton = new JButton("Restart");
+    final JButton resultsCloseButton = new JButton("Close");
+    int resultsShown = 0;  // Number of results shown, so a late rank is not put on a later game's results
+
+    /**
+     * Constructor for AppWindow. Builds the results view and, when there is a display, the frame.
+     */
+    AppWindow() {
+        buildResultsView();
+        views.add(resultsView, RESULTS_VIEW);
+
+        if (GraphicsEnvironment.isHeadless()) {
+            frame = null;
+        } else {
+            frame = new JFrame("Mind Match: A Memory Game");
+            frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            frame.setResizable(false);
+            frame.setContentPane(views);
+        }
+    }
+
+    /**
+     * Returns the window shared by the whole application, creating it on first use.
+     *
+     * @return The application window.
+     */
+    public static synchronized AppWindow shared() {
+        if (shared == null) {
+            shared = new AppWindow();
+        }
+        return shared;
+    }
+
+    /**
+     * Shows the menu, building it the first time.
+     */
+    public void showMenu() {
+        if (menu == null) {
+            new IntroGUI(this); // Shows itself through showMenu(IntroGUI)
+        } else {
+            showMenu(menu);
+        }
+    }
+
+    /**
+     * Shows a menu, replacing the menu view if it is a different one.
+     *
+     * @param menu The menu to show.
+     */
+    void showMenu(IntroGUI menu) {
+        if (this.menu != menu) {
+            if (this.menu != null) {
+                views.remove(this.menu.menuPanel);
+            }
+            this.menu = menu;
+            views.add(menu.menuPanel, MENU_VIEW);
+        }
+        switchTo(MENU_VIEW, menu.menuPanel, "Mind Match: A Memory Game");
+        menu.preloadGame();
+    }
+
+    /**
+     * Shows a game's board. A different game replaces the current one, which is disposed.
+     *
+     * @param game The game to show.
+     */
+    void showBoard(MatchCards game) {
+        if (this.game != game) {
+            if (this.game != null) {
+                views.remove(this.game.view);
+                this.game.dispose();
+            }
+            this.game = game;
+            views.add(game.view, BOARD_VIEW);
+        }
+        switchTo(BOARD_VIEW, game.view, "LizardBall Z Match Cards");
+    }
+
+    /**
+     * Shows the results of the current game. The rank is filled in once the leaderboard answers.
+     *
+     * @return The results view.
+     */
+    JPanel showResults() {
+        int shown = ++resultsShown;
+        errorsLabel.setText("Errors: " + game.engine.errorCount);
+        scoreLabel.setText("Score: " + game.engine.score);
+        rankLabel.setText(game.lastStanding.getNow("Rank: ..."));
+        game.lastStanding.thenAccept(text -> SwingUtilities.invokeLater(() -> {
+            if (resultsShown == shown) rankLabel.setText(text);
+        }));
+        switchTo(RESULTS_VIEW, game.view, "Game Over"); // Same size as the board, so the window does not jump
+        return resultsView;
+    }
+
+    /**
+     * Builds the results view once, with the same labels and buttons as the old game-over popup.
+     */
+    private void buildResultsView() {
+        JPanel messagePanel = new JPanel();
+        messagePanel.setLayout(new BoxLayout(messagePanel, BoxLayout.Y_AXIS));
+        messagePanel.add(Box.createVerticalGlue());
+        addResultsLabel(messagePanel, new JLabel("Game Over!"), new Font("Arial", Font.BOLD, 18));
+        addResultsLabel(messagePanel, errorsLabel, new Font("Arial", Font.PLAIN, 16));
+        addResultsLabel(messagePanel, new JLabel("Well done!"), new Font("Arial", Font.PLAIN, 16));
+        addResultsLabel(messagePanel, scoreLabel, new Font("Arial", Font.PLAIN, 16));
+        addResultsLabel(messagePanel, rankLabel, new Font("Arial", Font.PLAIN, 16));
+        messagePanel.add(Box.createVerticalGlue());
+        resultsView.add(messagePanel, BorderLayout.CENTER);
+
+        // Restart deals a new game on the same board, Close returns to the menu
+        resultsRestartButton.addActionListener(e -> {
+            game.restartGame();
+            showBoard(game);
+        });
+        resultsCloseButton.addActionListener(e -> showMenu());
+        JPanel buttonPanel = new JPanel();
+        buttonPanel.add(resultsRestartButton);
+        buttonPanel.add(resultsCloseButton);
+        resultsView.add(buttonPanel, BorderLayout.SOUTH);
+    }
+
+    private static void addResultsLabel(JPanel panel, JLabel label, Font font) {
+        label.setFont(font);
+        label.setHorizontalAlignment(SwingConstants.CENTER); // Center text
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        panel.add(label);
+    }
+
+    /**
+     * Switches to a view and sizes the window.
+     *
+     * @param name    The view name.
+     * @param sizedAs The component whose preferred size the window takes.
+     * @param title   The window title.
+     */
+    private void switchTo(String name, JComponent sizedAs, String title) {
+        boolean first = currentView == null;
+        currentView = name;
+        cardLayout.show(views, name);
+        if (frame == null) return;
+
+        // The card layout would size the window to the largest view, so size it to this one
+        views.setPreferredSize(sizedAs.getPreferredSize());
+        frame.setTitle(title);
+        frame.pack();
+        if (first) {
+            frame.setLocationRelativeTo(null); // Center the window on screen
+        }
+        frame.setVisible(true);
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * AppWindowSoakTester Class
+ * -
+ * Description: Drives the AppWindow through thousands of kiosk cycles (menu, Play, a full game, results,
+ * Close) and checks the session reaches a steady state: after a warm-up, the heap in use after a full
+ * collection, the number of Swing components in the window and the number of threads must stay flat.
+ * The board size is changed every few hundred cycles so preloaded games are also built, swapped in and
+ * disposed. Runs headless, so no native windows or peers are ever created and leaks of them are not
+ * covered; this checks the Java side of the session only. The game log and leaderboards go to a
+ * temporary folder. Exits with status 1 on failure.
+ * Usage: java -ea AppWindowSoakTester [cycles]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AppWindowSoakTester {
+
+    // Cycles played before the baseline is taken
+    static final int WARM_UP_CYCLES = 300;
+
+    // The board size changes every this many cycles
+    static final int SIZE_CHANGE_CYCLES = 250;
+
+    // Heap growth allowed between the baseline and the end of the run
+    static final long HEAP_GROWTH_BUDGET_BYTES = 4L * 1024 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        int cycles = args.length > 0 ? Integer.parseInt(args[0]) : 5000;
+        File folder = Files.createTempDirectory("mindmatch-soak").toFile();
+        System.setProperty("mindmatch.gameLog", new File(folder, "games.log").getPath());
+        System.setProperty("mindmatch.leaderboardDir", folder.getPath());
+        System.out.println("Starting App Window Soak Tester (" + cycles + " cycles)...");
+
+        AppWindow window = AppWindow.shared();
+        SwingUtilities.invokeAndWait(window::showMenu);
+
+        long start = System.nanoTime();
+        Snapshot baseline = null;
+        for (int cycle = 1; cycle <= cycles; cycle++) {
+            if (cycle % SIZE_CHANGE_CYCLES == 0) {
+                int size = (cycle / SIZE_CHANGE_CYCLES) % 2; // Alternate between the first two sizes
+                SwingUtilities.invokeAndWait(() -> window.menu.sizeBox.setSelectedIndex(size));
+            }
+            playCycle(window);
+            if (cycle == WARM_UP_CYCLES) {
+                baseline = Snapshot.take(window);
+                System.out.println("Baseline after " + cycle + " cycles: " + baseline);
+            }
+        }
+        Snapshot end = Snapshot.take(window);
+        System.out.println("After " + cycles + " cycles: " + end);
+        System.out.printf("%.2f ms per cycle%n", (System.nanoTime() - start) / 1e6 / cycles);
+
+        List<String> failures = new ArrayList<>();
+        if (baseline != null) {
+            if (end.heapBytes - baseline.heapBytes > HEAP_GROWTH_BUDGET_BYTES) {
+                failures.add("Heap grew by " + (end.heapBytes - baseline.heapBytes) / 1024 + " KB");
+            }
+            if (end.components != baseline.components) {
+                failures.add("Components went from " + baseline.components + " to " + end.components);
+            }
+            if (end.threads > baseline.threads) {
+                failures.add("Threads went from " + baseline.threads + " to " + end.threads);
+            }
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAIL " + failure));
+            System.exit(1);
+        }
+        System.out.println("All app window soak tests completed successfully.");
+        System.exit(0);
+    }
+
+    /**
+     * Presses Play, plays a game without an error, and closes the results to return to the menu.
+     */
+    static void playCycle(AppWindow window) throws Exception {
+        SwingUtilities.invokeAndWait(() -> {
+            check(window.currentView.equals(AppWindow.MENU_VIEW), "Cycle did not start on the menu.");
+            window.menu.playButton.doClick(0);
+        });
+
+        // A preloaded game may still be loading its images
+        boolean[] started = new boolean[1];
+        while (!started[0]) {
+            SwingUtilities.invokeAndWait(() -> started[0] = window.game.started);
+            if (!started[0]) Thread.sleep(1);
+        }
+
+        SwingUtilities.invokeAndWait(() -> {
+            MatchCards game = window.game;
+            check(window.currentView.equals(AppWindow.BOARD_VIEW), "Play did not show the board.");
+
+            // End the preview now instead of waiting for the hide delay
+            game.pendingHide.cancel();
+            game.hideCards();
+
+            // Click each pair in turn, the second card always matches
+            int[] firstOfPair = new int[game.engine.pairCount];
+            java.util.Arrays.fill(firstOfPair, -1);
+            for (int position = 0; position < game.engine.size(); position++) {
+                int card = game.engine.cardAt(position);
+                if (firstOfPair[card] == -1) {
+                    firstOfPair[card] = position;
+                } else {
+                    game.boardPanel.clickTile(firstOfPair[card]);
+                    game.boardPanel.clickTile(position);
+                }
+            }
+            check(game.engine.errorCount == 0, "Perfect game made errors.");
+            check(window.currentView.equals(AppWindow.RESULTS_VIEW), "Game over did not show the results.");
+
+            window.resultsCloseButton.doClick(0);
+        });
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) throw new AssertionError(message);
+    }
+
+    /**
+     * Resource use of the session at one point.
+     */
+    static class Snapshot {
+        long heapBytes;     // Heap in use after a full collection
+        int components;     // Components under the window's views
+        int threads;
+
+        static Snapshot take(AppWindow window) throws Exception {
+            Snapshot snapshot = new Snapshot();
+            Thread.sleep(200); // Let leaderboard writes and late rank updates finish
+            SwingUtilities.invokeAndWait(() -> snapshot.components = countComponents(window.views));
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+                Thread.sleep(50);
+            }
+            snapshot.heapBytes = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+            snapshot.threads = ManagementFactory.getThreadMXBean().getThreadCount();
+            return snapshot;
+        }
+
+        private static int countComponents(Container container) {
+            int count = 1;
+            for (Component child : container.getComponents()) {
+                count += child instanceof Container ? countComponents((Container) child) : 1;
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "heap " + heapBytes / 1024 + " KB, " + components + " components, " + threads + " threads";
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * AssetLoader Class
+ * -
+ * Description: The worker threads that load card images in the background. Theme.loadFace and
+ * Theme.loadBack decode and scale each image as its own task here (through the ImageCache), and leaderboard
+ * files are opened and written here too. This keeps that work off the Event Dispatch Thread, so MatchCards
+ * can show its board straight away and fill in each card once its image is ready.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class AssetLoader {
+
+    // Worker threads shared by every load, daemon threads so they never keep the application alive
+    static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                Thread thread = new Thread(runnable, "asset-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+}
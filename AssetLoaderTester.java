@@ -0,0 +1,96 @@
+/**
+ * AssetLoaderTester Class
+ * -
+ * Description: Tests background image loading and measures how long the calling thread is blocked at
+ * startup. Writes a set of full-size JPEG files to a temporary folder as a theme, then compares loading
+ * them serially on the calling thread (the way MatchCards used to on the EDT) with starting the theme's
+ * asynchronous loads (Theme.loadFace and Theme.loadBack), which run on the AssetLoader workers.
+ * Runs without a display (java -ea AssetLoaderTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AssetLoaderTester {
+
+    // Same number of faces as MatchCards, at roughly the size of the original artwork
+    static final int FACES = 10;
+    static final int SOURCE_WIDTH = 720;
+    static final int SOURCE_HEIGHT = 1024;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Asset Loader Tester...");
+
+        File folder = new File(System.getProperty("java.io.tmpdir"), "mindmatch-loader-test");
+        folder.mkdirs();
+        String[] faces = new String[FACES];
+        for (int i = 0; i < FACES; i++) {
+            faces[i] = "face" + i + ".jpg";
+            writeImage(new File(folder, faces[i]), i);
+        }
+        writeImage(new File(folder, "back.jpg"), FACES);
+        String path = folder.getPath() + File.separator;
+        Theme theme = new Theme("test", "Test", path, faces, "back.jpg");
+
+        // Serial load on the calling thread, as MatchCards.setupCards() did before (second pass is timed)
+        long serialNanos = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            long start = System.nanoTime();
+            for (String face : faces) {
+                ImageCache.load(path + face, 90, 128);
+            }
+            ImageCache.load(path + "back.jpg", 90, 128);
+            serialNanos = System.nanoTime() - start;
+        }
+
+        // Asynchronous load, the calling thread only waits for the tasks to be submitted
+        ImageCache.SHARED.clear();
+        long start = System.nanoTime();
+        CompletableFuture<ImageIcon> back = theme.loadBack(90, 128);
+        List<CompletableFuture<ImageIcon>> loading = new ArrayList<>();
+        for (int i = 0; i < FACES; i++) {
+            loading.add(theme.loadFace(i, 90, 128));
+        }
+        long blockedNanos = System.nanoTime() - start;
+        loading.forEach(CompletableFuture::join);
+        back.join();
+        long loadedNanos = System.nanoTime() - start;
+
+        System.out.println("Serial load, calling thread blocked: " + serialNanos / 1_000_000 + " ms");
+        System.out.println("Async load, calling thread blocked:  " + blockedNanos / 1_000_000 + " ms");
+        System.out.println("Async load, deck ready after:        " + loadedNanos / 1_000_000 + " ms");
+
+        for (int i = 0; i < FACES; i++) {
+            assert theme.faceName(i).equals("face" + i) : "Face " + i + " is out of order.";
+            assert loading.get(i).join().getIconWidth() == 90 : "Face " + i + " was not scaled.";
+            assert loading.get(i).join() == theme.face(i, 90, 128) : "Face " + i + " was not cached.";
+        }
+        assert back.join().getIconHeight() == 128 : "Back image was not scaled.";
+
+        // The loads run on the shared workers, daemon threads that never keep the application alive
+        Thread worker = CompletableFuture.supplyAsync(Thread::currentThread, AssetLoader.WORKERS).join();
+        assert worker.getName().equals("asset-loader") && worker.isDaemon() : "Loads do not run on the workers.";
+
+        System.out.println("All asset loader tests completed successfully.");
+    }
+
+    private static void writeImage(File file, int seed) throws IOException {
+        BufferedImage image = new BufferedImage(SOURCE_WIDTH, SOURCE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, new Color(seed * 20, 80, 160), SOURCE_WIDTH, SOURCE_HEIGHT, Color.ORANGE));
+        g.fillRect(0, 0, SOURCE_WIDTH, SOURCE_HEIGHT);
+        g.dispose();
+        ImageIO.write(image, "jpg", file);
+    }
+}
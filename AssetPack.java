@@ -0,0 +1,176 @@
+/**
+ * AssetPack Class
+ * -
+ * Description: Reads the asset pack written by AssetPackTool: every image the game uses, already scaled
+ * to the size it is shown at and stored as raw pixels, in one file. The file is memory-mapped and only its
+ * index is read when it is opened; an image is built by copying its pixels straight into a BufferedImage,
+ * with no JPEG decode and no rescale. Images are looked up with the same path and size the ImageCache is
+ * asked for, and the ImageCache falls back to decoding the JPEG when the pack is missing or does not hold
+ * the image.
+ * File layout (little-endian):
+ * - Header (16 bytes): int magic "MMAP", int version, int entry count, int index length in bytes.
+ * - Index, one entry per image: short key length, key bytes (UTF-8, "path@WIDTHxHEIGHT"), int width,
+ *   int height, int BufferedImage type (TYPE_INT_RGB or TYPE_INT_ARGB), long pixel offset.
+ * - Pixels of each image, one int per pixel (0xAARRGGBB), row by row, starting at a multiple of 4.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+public class AssetPack {
+
+    static final int MAGIC = 0x4D4D4150; // "MMAP"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    // Pack used by the ImageCache, change with -Dmindmatch.assetPack=<path>
+    static final String DEFAULT_PATH = "src/img2/assets.pack";
+
+    private static AssetPack shared;
+    private static boolean sharedOpened = false;  // Opening is only tried once, even if the pack is missing
+
+    final File file;
+    private final MappedByteBuffer pixels;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Where one image's pixels are in the file.
+     */
+    static final class Entry {
+        final int width;
+        final int height;
+        final int imageType;
+        final long offset;
+
+        Entry(int width, int height, int imageType, long offset) {
+            this.width = width;
+            this.height = height;
+            this.imageType = imageType;
+            this.offset = offset;
+        }
+    }
+
+    private AssetPack(File file, MappedByteBuffer pixels, Map<String, Entry> entries) {
+        this.file = file;
+        this.pixels = pixels;
+        this.entries = entries;
+    }
+
+    /**
+     * Maps a pack file and reads its index.
+     *
+     * @param file The pack file.
+     * @return The opened pack.
+     * @throws IOException If the file cannot be read or is not a valid asset pack.
+     */
+    public static AssetPack open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not an asset pack");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException(file + " has asset pack version " + buffer.getInt(4) + ", expected " + VERSION);
+            }
+
+            int count = buffer.getInt(8);
+            Map<String, Entry> entries = new HashMap<>(count * 2);
+            buffer.position(HEADER_SIZE);
+            for (int i = 0; i < count; i++) {
+                byte[] key = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(key);
+                Entry entry = new Entry(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getLong());
+                if (entry.imageType != BufferedImage.TYPE_INT_RGB && entry.imageType != BufferedImage.TYPE_INT_ARGB) {
+                    throw new IOException(file + " has an unknown image type " + entry.imageType);
+                }
+                if (entry.offset + 4L * entry.width * entry.height > buffer.limit()) {
+                    throw new IOException(file + " is truncated");
+                }
+                entries.put(new String(key, StandardCharsets.UTF_8), entry);
+            }
+            return new AssetPack(file, buffer, entries);
+        } catch (RuntimeException e) {
+            throw new IOException(file + " is not a valid asset pack: " + e, e);
+        }
+    }
+
+    /**
+     * Returns the pack the game's images are read from, opening it on first use. The file is
+     * src/img2/assets.pack, or -Dmindmatch.assetPack=<path>.
+     *
+     * @return The shared pack, or null if there is no pack (images are then decoded from their JPEGs).
+     */
+    public static synchronized AssetPack shared() {
+        if (!sharedOpened) {
+            sharedOpened = true;
+            File file = new File(System.getProperty("mindmatch.assetPack", DEFAULT_PATH));
+            if (file.isFile()) {
+                try {
+                    shared = open(file);
+                } catch (IOException e) {
+                    System.err.println("Asset pack ignored, images will be decoded: " + e.getMessage());
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Builds an image from the pack.
+     *
+     * @param path   The image file path it was packed from (e.g., "src/img2/goku1.jpg").
+     * @param width  The width it was scaled to.
+     * @param height The height it was scaled to.
+     * @return The image, or null if the pack does not hold this image at this size.
+     */
+    public ImageIcon get(String path, int width, int height) {
+        Entry entry = entries.get(key(path, width, height));
+        if (entry == null) return null;
+
+        int[] data = new int[entry.width * entry.height];
+        IntBuffer source = pixels.slice((int) entry.offset, data.length * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        source.get(data);
+        BufferedImage image = new BufferedImage(entry.width, entry.height, entry.imageType);
+        image.getRaster().setDataElements(0, 0, entry.width, entry.height, data); // Keeps the image managed
+        return new ImageIcon(image);
+    }
+
+    /**
+     * Returns true if the pack holds an image at a size.
+     */
+    public boolean contains(String path, int width, int height) {
+        return entries.containsKey(key(path, width, height));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the index key of an image, the same key the ImageCache uses.
+     */
+    static String key(String path, int width, int height) {
+        return path + "@" + width + "x" + height;
+    }
+
+    @Override
+    public String toString() {
+        return "AssetPack[" + file + ", " + entries.size() + " images]";
+    }
+}
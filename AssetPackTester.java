@@ -0,0 +1,172 @@
+/**
+ * AssetPackTester Class
+ * -
+ * Description: Tests the asset pack on generated JPEGs (the card images are not needed): packed images
+ * must match the decoded and scaled ones pixel for pixel, missing images must be left out, damaged packs
+ * must be refused, and the ImageCache must read from the pack and fall back to decoding. Reports the time
+ * to get every image by decoding and by reading the pack. Runs without a display
+ * (java -ea AssetPackTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AssetPackTester {
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("Starting Asset Pack Tester...");
+
+        File folder = Files.createTempDirectory("mindmatch-assets").toFile();
+        File pack = new File(folder, "assets.pack");
+        System.setProperty("mindmatch.assetPack", pack.getPath()); // Before anything opens the shared pack
+
+        List<AssetPackTool.PackedImage> images = writeImages(folder);
+        int packed = AssetPackTool.pack(images, pack);
+        assert packed == images.size() - 1 : "Packed " + packed + " images.";
+
+        testRoundTrip(images, pack);
+        testDamagedPacks(folder, pack);
+        testImageCache(images);
+        compareLoadTimes(images, pack);
+
+        System.out.println("All asset pack tests completed successfully.");
+    }
+
+    /**
+     * Writes a JPEG for every image the tool packs, except the last face, which is left missing.
+     */
+    static List<AssetPackTool.PackedImage> writeImages(File folder) throws IOException {
+        List<AssetPackTool.PackedImage> images = new ArrayList<>();
+        String prefix = folder.getPath() + "/";
+        for (String name : AssetPackTool.CARD_NAMES) {
+            images.add(new AssetPackTool.PackedImage(prefix + name + ".jpg", AssetPackTool.CARD_WIDTH, AssetPackTool.CARD_HEIGHT));
+        }
+        images.add(new AssetPackTool.PackedImage(prefix + AssetPackTool.BANNER_NAME + ".jpg",
+                AssetPackTool.BANNER_WIDTH, AssetPackTool.BANNER_HEIGHT));
+
+        for (int i = 0; i < images.size(); i++) {
+            if (i == AssetPackTool.CARD_NAMES.length - 2) continue; // Missing face
+            BufferedImage source = new BufferedImage(600, 800, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = source.createGraphics();
+            g.setPaint(new GradientPaint(0, 0, new Color(i * 20, 40, 200), 600, 800, new Color(250, i * 20, 10)));
+            g.fillRect(0, 0, 600, 800);
+            g.setColor(Color.WHITE);
+            g.fillOval(100 + i * 10, 200, 300, 300);
+            g.dispose();
+            ImageIO.write(source, "jpg", new File(images.get(i).path));
+        }
+        return images;
+    }
+
+    /**
+     * Checks every packed image matches the image decoded and scaled at runtime.
+     */
+    static void testRoundTrip(List<AssetPackTool.PackedImage> images, File pack) throws IOException {
+        System.out.println("Testing round trip...");
+
+        AssetPack opened = AssetPack.open(pack);
+        for (AssetPackTool.PackedImage image : images) {
+            boolean exists = new File(image.path).isFile();
+            assert opened.contains(image.path, image.width, image.height) == exists : image.path + " packed wrongly.";
+            if (!exists) continue;
+
+            ImageIcon fromPack = opened.get(image.path, image.width, image.height);
+            assert fromPack.getIconWidth() == image.width && fromPack.getIconHeight() == image.height : "Wrong size.";
+            int[] expected = pixelsOf(ImageCache.decode(image.path, image.width, image.height), image.width, image.height);
+            int[] actual = pixelsOf(fromPack, image.width, image.height);
+            assert java.util.Arrays.equals(expected, actual) : image.path + " differs from the decoded image.";
+        }
+        assert opened.get(images.get(0).path, 45, 64) == null : "Image found at a size that was not packed.";
+    }
+
+    /**
+     * Checks damaged or foreign files are refused.
+     */
+    static void testDamagedPacks(File folder, File pack) throws IOException {
+        System.out.println("Testing damaged packs...");
+
+        File truncated = new File(folder, "truncated.pack");
+        Files.copy(pack.toPath(), truncated.toPath());
+        try (RandomAccessFile file = new RandomAccessFile(truncated, "rw")) {
+            file.setLength(pack.length() - 100);
+        }
+        assert refused(truncated) : "Truncated pack was opened.";
+
+        File foreign = new File(folder, "foreign.pack");
+        Files.write(foreign.toPath(), new byte[64]);
+        assert refused(foreign) : "Foreign file was opened as a pack.";
+    }
+
+    /**
+     * Checks the ImageCache takes packed images from the pack and decodes the rest.
+     */
+    static void testImageCache(List<AssetPackTool.PackedImage> images) {
+        System.out.println("Testing image cache...");
+
+        AssetPack shared = AssetPack.shared();
+        assert shared != null && shared.size() == images.size() - 1 : "Shared pack not opened.";
+
+        AssetPackTool.PackedImage face = images.get(0);
+        ImageIcon packed = ImageCache.load(face.path, face.width, face.height);
+        assert packed.getImage() instanceof BufferedImage : "Image cache did not read the pack.";
+        ImageIcon decoded = ImageCache.load(face.path, 45, 64);
+        assert !(decoded.getImage() instanceof BufferedImage) && decoded.getIconWidth() == 45 : "Fallback did not decode.";
+    }
+
+    /**
+     * Reports the time to get every image by decoding its JPEG and by opening and reading the pack.
+     */
+    static void compareLoadTimes(List<AssetPackTool.PackedImage> images, File pack) throws IOException {
+        ImageCache.decode(images.get(0).path, 10, 10); // Start the image toolkit first, both paths need it
+        for (AssetPackTool.PackedImage image : images) {
+            Toolkit.getDefaultToolkit().getImage(image.path).flush(); // Drop decoded images kept by the toolkit
+        }
+
+        long start = System.nanoTime();
+        for (AssetPackTool.PackedImage image : images) {
+            if (new File(image.path).isFile()) ImageCache.decode(image.path, image.width, image.height);
+        }
+        long decodeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        AssetPack opened = AssetPack.open(pack);
+        for (AssetPackTool.PackedImage image : images) {
+            opened.get(image.path, image.width, image.height);
+        }
+        long packNanos = System.nanoTime() - start;
+
+        System.out.printf("%d images: decode and scale %.1f ms, asset pack %.2f ms (%d KB)%n", opened.size(),
+                decodeNanos / 1e6, packNanos / 1e6, pack.length() / 1024);
+        assert packNanos < decodeNanos : "Asset pack was not faster than decoding.";
+    }
+
+    private static boolean refused(File file) {
+        try {
+            AssetPack.open(file);
+            return false;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    private static int[] pixelsOf(ImageIcon icon, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.drawImage(icon.getImage(), 0, 0, null);
+        g.dispose();
+        return image.getRGB(0, 0, width, height, null, 0, width);
+    }
+}
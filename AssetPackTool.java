@@ -0,0 +1,159 @@
+/**
+ * AssetPackTool Class
+ * -
+ * Description: Build-time tool that writes the asset pack read by AssetPack. Each card face and the card
+ * back are decoded and smooth-scaled to 90x128, and the banner to 300x250, exactly as the game would do
+ * at runtime, and their pixels are written to one file with an index. Run it again whenever an image
+ * changes; images that are missing are left out and the game decodes them as before.
+ * Usage: java AssetPackTool [image folder] [pack file]
+ * (defaults: src/img2/ and src/img2/assets.pack)
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AssetPackTool {
+
+    // Images the game loads, as in MatchCards and IntroGUI
+    static final String[] CARD_NAMES = {
+            "beerus1", "broly1", "cell-max1", "frieza1", "gohan1",
+            "goku1", "jiren1", "marjinBuu1", "piccolo1", "vegeta1", "backCard2"
+    };
+    static final int CARD_WIDTH = 90;
+    static final int CARD_HEIGHT = 128;
+    static final String BANNER_NAME = "banner2";
+    static final int BANNER_WIDTH = 300;
+    static final int BANNER_HEIGHT = 250;
+
+    /**
+     * An image to pack: its path, the size it is shown at, and its pixels once scaled.
+     */
+    static final class PackedImage {
+        final String path;
+        final int width;
+        final int height;
+        int[] pixels;        // 0xAARRGGBB, row by row
+        boolean opaque;
+
+        PackedImage(String path, int width, int height) {
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        String folder = args.length > 0 ? args[0] : "src/img2/";
+        if (!folder.endsWith("/")) folder += "/";
+        File output = new File(args.length > 1 ? args[1] : AssetPack.DEFAULT_PATH);
+
+        List<PackedImage> images = new ArrayList<>();
+        for (String name : CARD_NAMES) {
+            images.add(new PackedImage(folder + name + ".jpg", CARD_WIDTH, CARD_HEIGHT));
+        }
+        images.add(new PackedImage(folder + BANNER_NAME + ".jpg", BANNER_WIDTH, BANNER_HEIGHT));
+
+        long start = System.nanoTime();
+        int packed = pack(images, output);
+        System.out.printf("Packed %d of %d images into %s (%d KB) in %d ms%n", packed, images.size(), output,
+                output.length() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Decodes, scales and writes images to a pack file. Missing images are reported and left out. The
+     * pack is written to a temporary file first, so a running game never sees a half-written pack.
+     *
+     * @param images The images to pack.
+     * @param output The pack file to write.
+     * @return The number of images packed.
+     * @throws IOException If the pack cannot be written.
+     */
+    static int pack(List<PackedImage> images, File output) throws IOException {
+        List<PackedImage> found = new ArrayList<>();
+        for (PackedImage image : images) {
+            if (!new File(image.path).isFile()) {
+                System.out.println("Missing, not packed: " + image.path);
+                continue;
+            }
+            scale(image);
+            found.add(image);
+        }
+
+        // Header and index first, then each image's pixels
+        List<byte[]> keys = new ArrayList<>();
+        int indexLength = 0;
+        for (PackedImage image : found) {
+            byte[] key = AssetPack.key(image.path, image.width, image.height).getBytes(StandardCharsets.UTF_8);
+            keys.add(key);
+            indexLength += 2 + key.length + 4 + 4 + 4 + 8;
+        }
+        long offset = align(AssetPack.HEADER_SIZE + indexLength);
+        ByteBuffer index = ByteBuffer.allocate((int) offset).order(ByteOrder.LITTLE_ENDIAN);
+        index.putInt(AssetPack.MAGIC).putInt(AssetPack.VERSION).putInt(found.size()).putInt(indexLength);
+        for (int i = 0; i < found.size(); i++) {
+            PackedImage image = found.get(i);
+            index.putShort((short) keys.get(i).length).put(keys.get(i));
+            index.putInt(image.width).putInt(image.height);
+            index.putInt(image.opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+            index.putLong(offset);
+            offset += 4L * image.pixels.length;
+        }
+        index.rewind();
+
+        File parent = output.getAbsoluteFile().getParentFile();
+        Files.createDirectories(parent.toPath());
+        File temporary = File.createTempFile("assets", ".pack.tmp", parent);
+        try (FileChannel channel = FileChannel.open(temporary.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(index);
+            for (PackedImage image : found) {
+                ByteBuffer pixels = ByteBuffer.allocate(4 * image.pixels.length).order(ByteOrder.LITTLE_ENDIAN);
+                pixels.asIntBuffer().put(image.pixels);
+                channel.write(pixels);
+            }
+        }
+        Files.move(temporary.toPath(), output.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        return found.size();
+    }
+
+    /**
+     * Decodes and scales an image the way the ImageCache does without a pack, and keeps its pixels.
+     */
+    static void scale(PackedImage image) {
+        ImageIcon icon = ImageCache.decode(image.path, image.width, image.height);
+        BufferedImage pixels = new BufferedImage(image.width, image.height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = pixels.createGraphics();
+        g.drawImage(icon.getImage(), 0, 0, null);
+        g.dispose();
+        image.pixels = pixels.getRGB(0, 0, image.width, image.height, null, 0, image.width);
+        image.opaque = true;
+        for (int pixel : image.pixels) {
+            if (pixel >>> 24 != 0xFF) {
+                image.opaque = false;
+                break;
+            }
+        }
+    }
+
+    private static long align(long offset) {
+        return (offset + 3) & ~3L;
+    }
+}
@@ -0,0 +1,264 @@
+/**
+ * BenchmarkSuite Class
+ * -
+ * Description: Micro-benchmarks for the hot parts of the game: shuffling (MatchCards.shuffleCards),
+ * deck construction (MatchCards.setupCards), click/match resolution and image scaling. Shuffling and deck
+ * construction run on a real MatchCards game per board size, built without a display; setupCards runs on
+ * the EDT as in the game. Each benchmark is run for a number of warm-up and measured iterations per board
+ * size, in the same way as JMH's average-time mode, and the results are written as JSON so runs from
+ * different releases can be diffed. The game log and leaderboards go to a temporary folder.
+ * Usage: java BenchmarkSuite [output file] [iteration millis]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Locale;
+
+public class BenchmarkSuite {
+
+    // Boards as {rows, columns}, every benchmark except image scaling runs once per board
+    static final int[][] BOARDS = {{4, 5}, {20, 20}, {50, 80}};
+
+    static final int WARMUP_ITERATIONS = 3;
+    static final int MEASUREMENT_ITERATIONS = 5;
+
+    // Card size used by MatchCards
+    static final int CARD_WIDTH = 90;
+    static final int CARD_HEIGHT = 128;
+
+    /**
+     * A single benchmarked operation. The returned value is consumed so the JIT cannot drop the work.
+     */
+    interface Operation {
+        long run();
+    }
+
+    /**
+     * The measured average time of one benchmark at one board size.
+     */
+    static class Result {
+        final String benchmark;
+        final int tiles;          // 0 when the benchmark does not depend on board size
+        final double score;       // Average nanoseconds per operation
+        final double scoreError;  // Half-width of the 99% confidence interval
+        final double[] rawData;   // Score of each measured iteration
+
+        Result(String benchmark, int tiles, double[] rawData) {
+            this.benchmark = benchmark;
+            this.tiles = tiles;
+            this.rawData = rawData;
+            double sum = 0;
+            for (double value : rawData) sum += value;
+            score = sum / rawData.length;
+            double squares = 0;
+            for (double value : rawData) squares += (value - score) * (value - score);
+            double stdDev = Math.sqrt(squares / Math.max(1, rawData.length - 1));
+            scoreError = 2.576 * stdDev / Math.sqrt(rawData.length);
+        }
+    }
+
+    // Consumes benchmark results
+    static long sink;
+
+    static long iterationNanos = 200_000_000L;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        File folder = Files.createTempDirectory("mindmatch-bench").toFile();
+        System.setProperty("mindmatch.gameLog", new File(folder, "games.log").getPath());
+        System.setProperty("mindmatch.leaderboardDir", folder.getPath());
+        File output = new File(args.length > 0 ? args[0] : "benchmark-results.json");
+        if (args.length > 1) {
+            iterationNanos = Long.parseLong(args[1]) * 1_000_000L;
+        }
+        System.out.println("Running benchmark suite...");
+
+        ArrayList<Result> results = new ArrayList<>();
+        for (int[] board : BOARDS) {
+            MatchCards game = startGame(board[0], board[1]);
+            results.add(benchmarkShuffle(game));
+            results.add(benchmarkSetupCards(game));
+            results.add(benchmarkClick(game.engine.size()));
+        }
+        results.add(benchmarkImageScaling());
+
+        writeJson(output, results);
+        System.out.println("Results written to " + output.getPath());
+        System.exit(0);
+    }
+
+    /**
+     * Builds and shows a game with the built-in theme and waits until its cards are on the board.
+     */
+    static MatchCards startGame(int rows, int columns) throws Exception {
+        MatchCards[] game = new MatchCards[1];
+        SwingUtilities.invokeAndWait(() -> game[0] = new MatchCards(rows, columns, Theme.builtIn(), true));
+        game[0].ready.join();
+        return game[0];
+    }
+
+    /**
+     * MatchCards.shuffleCards: a new deal from the engine, laid out with MatchCards.layOutCards.
+     */
+    static Result benchmarkShuffle(MatchCards game) {
+        return measure("shuffleCards", game.engine.size(), false, () -> {
+            game.shuffleCards();
+            return game.engine.cardAt(0);
+        });
+    }
+
+    /**
+     * MatchCards.setupCards: build the deck from the theme, lay out the board and hand the board its
+     * icons, on the EDT. The faces themselves load later, as the board paints them.
+     */
+    static Result benchmarkSetupCards(MatchCards game) {
+        ImageIcon back = game.cardBackImageIcon;
+        return measure("setupCards", game.engine.size(), true, () -> {
+            game.setupCards(back);
+            return game.cardSet.size();
+        });
+    }
+
+    /**
+     * MatchCards.handleCardClick/hideCards: one flip, resolving mismatches and restarting finished games.
+     */
+    static Result benchmarkClick(int tiles) {
+        GameEngine engine = createEngine(tiles);
+        engine.resolve();
+        int[] next = {0};
+        return measure("click", tiles, false, () -> {
+            int position = next[0];
+            next[0] = (position + 7919) % tiles;
+            int result = engine.flip(position);
+            if (result == GameEngine.MISMATCH) {
+                engine.resolve();
+            } else if (result == GameEngine.GAME_OVER) {
+                engine.reset();
+                engine.resolve();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Image scaling: decode a full-size JPEG and smooth-scale it to card size, as on an ImageCache miss.
+     */
+    static Result benchmarkImageScaling() throws IOException {
+        File file = File.createTempFile("mindmatch-bench", ".jpg");
+        file.deleteOnExit();
+        BufferedImage image = new BufferedImage(720, 1024, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.BLUE, 720, 1024, Color.ORANGE));
+        g.fillRect(0, 0, 720, 1024);
+        g.dispose();
+        ImageIO.write(image, "jpg", file);
+
+        String path = file.getPath();
+        return measure("imageScaling", 0, false, () -> ImageCache.load(path, CARD_WIDTH, CARD_HEIGHT).getIconWidth());
+    }
+
+    /**
+     * Runs the warm-up iterations, then the measured iterations, each lasting iterationNanos.
+     * Operations run in batches sized during warm-up so the clock is not read on every call.
+     *
+     * @param onEdt True to run each iteration as one task on the EDT, for operations on Swing state.
+     */
+    static Result measure(String benchmark, int tiles, boolean onEdt, Operation operation) {
+        int batch = 1;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            batch = Math.max(batch, (int) Math.min(1 << 20, 1_000_000 / Math.max(1, runIteration(operation, batch, onEdt))));
+        }
+        double[] scores = new double[MEASUREMENT_ITERATIONS];
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            scores[i] = runIteration(operation, batch, onEdt);
+        }
+
+        Result result = new Result(benchmark, tiles, scores);
+        System.out.printf(Locale.ROOT, "%-14s tiles=%-6d %14.1f +- %.1f ns/op%n", benchmark, tiles, result.score, result.scoreError);
+        return result;
+    }
+
+    /**
+     * Runs one iteration, on the EDT or on the calling thread.
+     *
+     * @return Average nanoseconds per operation.
+     */
+    static double runIteration(Operation operation, int batch, boolean onEdt) {
+        if (!onEdt) return runIteration(operation, batch);
+        double[] score = new double[1];
+        try {
+            SwingUtilities.invokeAndWait(() -> score[0] = runIteration(operation, batch));
+        } catch (Exception e) {
+            throw new IllegalStateException("Benchmark failed on the EDT", e);
+        }
+        return score[0];
+    }
+
+    /**
+     * Runs batches of the operation until the iteration time has passed.
+     *
+     * @return Average nanoseconds per operation.
+     */
+    static double runIteration(Operation operation, int batch) {
+        long operations = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < batch; i++) {
+                sink += operation.run();
+            }
+            operations += batch;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+        return elapsed / (double) operations;
+    }
+
+    /**
+     * Writes the results in a JSON layout similar to JMH's, one object per benchmark and board size.
+     */
+    static void writeJson(File output, ArrayList<Result> results) throws IOException {
+        try (PrintWriter out = new PrintWriter(output, "UTF-8")) {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i);
+                StringBuilder raw = new StringBuilder();
+                for (int j = 0; j < result.rawData.length; j++) {
+                    if (j > 0) raw.append(", ");
+                    raw.append(String.format(Locale.ROOT, "%.3f", result.rawData[j]));
+                }
+                out.println("    {");
+                out.println("        \"benchmark\" : \"" + result.benchmark + "\",");
+                out.println("        \"mode\" : \"avgt\",");
+                out.println("        \"params\" : { \"tiles\" : \"" + result.tiles + "\" },");
+                out.println("        \"warmupIterations\" : " + WARMUP_ITERATIONS + ",");
+                out.println("        \"measurementIterations\" : " + MEASUREMENT_ITERATIONS + ",");
+                out.println("        \"measurementTimeMillis\" : " + iterationNanos / 1_000_000 + ",");
+                out.println("        \"primaryMetric\" : {");
+                out.println(String.format(Locale.ROOT, "            \"score\" : %.3f,", result.score));
+                out.println(String.format(Locale.ROOT, "            \"scoreError\" : %.3f,", result.scoreError));
+                out.println("            \"scoreUnit\" : \"ns/op\",");
+                out.println("            \"rawData\" : [ " + raw + " ]");
+                out.println("        }");
+                out.println(i < results.size() - 1 ? "    }," : "    }");
+            }
+            out.println("]");
+        }
+    }
+
+    private static GameEngine createEngine(int tiles) {
+        GameEngine engine = new GameEngine(tiles / 2);
+        engine.shuffle();
+        return engine;
+    }
+}
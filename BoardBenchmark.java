@@ -0,0 +1,140 @@
+/**
+ * BoardBenchmark Class
+ * -
+ * Description: Measures the BoardPanel at 20, 400 and 4,000 tiles: the time to paint the whole board,
+ * the time to repaint a single flipped tile, and the heap held by the board compared with the
+ * per-card JButton grid it replaced. Paints into an off-screen image, so no display is needed.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+
+public class BoardBenchmark {
+
+    // Board shapes to measure, as {rows, columns}
+    static final int[][] BOARDS = {{4, 5}, {20, 20}, {50, 80}};
+
+    static final int TILE_WIDTH = 90;
+    static final int TILE_HEIGHT = 128;
+    static final int PAINTS = 20;
+
+    public static void main(String[] args) {
+        System.out.println("Running board benchmark...");
+        System.out.println("Tiles   full paint (ms)   tile repaint (us)   BoardPanel heap (KB)   JButton grid heap (KB)");
+
+        ImageIcon[] faces = createIcons(10);
+        ImageIcon back = createIcons(1)[0];
+
+        for (int[] shape : BOARDS) {
+            int rows = shape[0];
+            int columns = shape[1];
+            int tiles = rows * columns;
+
+            GameEngine engine = new GameEngine(tiles / 2);
+            engine.shuffle();
+            for (int i = 0; i < engine.cardIds.length; i++) {
+                engine.cardIds[i] %= faces.length; // Reuse the ten faces across all pairs
+            }
+            BoardPanel board = new BoardPanel(engine, rows, columns, TILE_WIDTH, TILE_HEIGHT);
+            board.setIcons(faces, back);
+            board.setSize(board.getPreferredSize());
+
+            BufferedImage canvas = new BufferedImage(columns * TILE_WIDTH, rows * TILE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = canvas.createGraphics();
+
+            // Full board paint
+            timeFullPaint(board, g);
+            double fullMillis = timeFullPaint(board, g) / 1_000_000.0;
+
+            // Single tile repaint, clipped to the tile the way repaintTile() asks for
+            Graphics tileGraphics = g.create();
+            tileGraphics.setClip(TILE_WIDTH, TILE_HEIGHT, TILE_WIDTH, TILE_HEIGHT);
+            timeTilePaint(board, tileGraphics);
+            double tileMicros = timeTilePaint(board, tileGraphics) / 1_000.0;
+            tileGraphics.dispose();
+            g.dispose();
+
+            int copies = Math.max(2, 8000 / tiles);
+            long boardBytes = retainedBytes(copies, () -> new BoardPanel(new GameEngine(tiles / 2), rows, columns, TILE_WIDTH, TILE_HEIGHT));
+            long buttonBytes = retainedBytes(copies, () -> createButtonGrid(tiles));
+
+            System.out.printf("%-7d %-17.2f %-19.1f %-22d %d%n", tiles, fullMillis, tileMicros,
+                    boardBytes / 1024, buttonBytes / 1024);
+        }
+    }
+
+    private static long timeFullPaint(BoardPanel board, Graphics2D g) {
+        long start = System.nanoTime();
+        for (int i = 0; i < PAINTS; i++) {
+            g.setClip(0, 0, board.getWidth(), board.getHeight());
+            board.paintComponent(g);
+        }
+        return (System.nanoTime() - start) / PAINTS;
+    }
+
+    private static long timeTilePaint(BoardPanel board, Graphics g) {
+        int repeats = PAINTS * 50;
+        long start = System.nanoTime();
+        for (int i = 0; i < repeats; i++) {
+            board.paintComponent(g);
+        }
+        return (System.nanoTime() - start) / repeats;
+    }
+
+    /**
+     * Builds the old board: one JButton with its own ActionListener per card in a GridLayout panel.
+     */
+    private static JPanel createButtonGrid(int tiles) {
+        JPanel panel = new JPanel(new GridLayout(0, 5));
+        ArrayList<JButton> board = new ArrayList<>();
+        for (int i = 0; i < tiles; i++) {
+            JButton tile = new JButton();
+            tile.setPreferredSize(new Dimension(TILE_WIDTH, TILE_HEIGHT));
+            tile.setOpaque(true);
+            tile.setFocusable(false);
+            tile.addActionListener(e -> board.indexOf(e.getSource()));
+            board.add(tile);
+            panel.add(tile);
+        }
+        return panel;
+    }
+
+    /**
+     * Estimates the heap held by one object a factory builds, from the used heap after GC before and
+     * after building several copies (averaging out GC noise).
+     */
+    private static long retainedBytes(int copies, java.util.function.Supplier<Object> factory) {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        Object[] built = new Object[copies];
+        System.gc();
+        long before = memory.getHeapMemoryUsage().getUsed();
+        for (int i = 0; i < copies; i++) {
+            built[i] = factory.get();
+        }
+        System.gc();
+        long after = memory.getHeapMemoryUsage().getUsed();
+        java.lang.ref.Reference.reachabilityFence(built); // The copies must still be live when the heap is measured
+        return Math.max(0, after - before) / copies;
+    }
+
+    private static ImageIcon[] createIcons(int count) {
+        ImageIcon[] icons = new ImageIcon[count];
+        for (int i = 0; i < count; i++) {
+            BufferedImage image = new BufferedImage(TILE_WIDTH, TILE_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            g.setColor(Color.getHSBColor(i / (float) count, 0.6f, 0.9f));
+            g.fillRect(0, 0, TILE_WIDTH, TILE_HEIGHT);
+            g.dispose();
+            icons[i] = new ImageIcon(image);
+        }
+        return icons;
+    }
+}
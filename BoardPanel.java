@@ -0,0 +1,321 @@
+/**
+ * BoardPanel Class
+ * -
+ * Description: A single lightweight component that paints the whole card grid. Each tile is drawn
+ * from the engine's card ids (face image when face-up, back image otherwise), so the board needs no
+ * component or listener per card. Mouse clicks are turned into board positions arithmetically and
+ * flipping a card only repaints that tile's rectangle.
+ * Large boards sit in a JScrollPane: only the tiles inside the visible rectangle are painted, and a face
+ * image is asked for (through the face request listener) the first time a tile showing it is painted.
+ * When there are more pairs than face images, faces are reused and each face-up tile is labelled with
+ * its pair number so the pairs can still be told apart.
+ * A flip can be timed with timeNextPaint: the time from the click until the tile has been painted is
+ * recorded into a LatencyHistogram. The click time is taken from the mouse event, so it includes the
+ * time the press waited in the event queue.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.util.function.IntConsumer;
+
+public class BoardPanel extends JComponent implements Scrollable {
+
+    private static final long serialVersionUID = 1L;
+
+    // Colours used for tiles without an image yet and for the tile borders
+    static final Color EMPTY_TILE_COLOR = new Color(225, 225, 225);
+    static final Color BORDER_COLOR = new Color(160, 160, 160);
+
+    // Pair number label drawn on face-up tiles when faces are reused
+    static final Font PAIR_NUMBER_FONT = new Font("Arial", Font.BOLD, 14);
+    static final Color PAIR_NUMBER_BACKGROUND = new Color(0, 0, 0, 160);
+
+    // Largest number of tiles shown at once, larger boards scroll
+    static final int VIEWPORT_COLUMNS = 10;
+    static final int VIEWPORT_ROWS = 6;
+
+    final GameEngine engine;
+    final int rows;
+    final int columns;
+    final int tileWidth;
+    final int tileHeight;
+
+    // Face images (card id modulo the number of faces) and back image, null until loaded
+    ImageIcon[] faceIcons;
+    ImageIcon backIcon;
+    boolean[] faceRequested;  // Faces already asked for through the face request listener
+
+    // Called with the board position of each clicked tile
+    IntConsumer tileClickListener;
+
+    // Called on the EDT with the index of a missing face image the first time it is painted
+    IntConsumer faceRequestListener;
+
+    // When the click being handled happened (System.nanoTime), set before the tile click listener is called
+    long clickNanos;
+
+    // Flipped tile waiting to be painted, when it was clicked and where to record the delay
+    int timedPosition = -1;
+    long timedSinceNanos;
+    LatencyHistogram timedHistogram;
+
+    /**
+     * Constructor for BoardPanel.
+     *
+     * @param engine     The game state to paint.
+     * @param rows       The number of tile rows.
+     * @param columns    The number of tile columns.
+     * @param tileWidth  The width of a tile in pixels.
+     * @param tileHeight The height of a tile in pixels.
+     */
+    public BoardPanel(GameEngine engine, int rows, int columns, int tileWidth, int tileHeight) {
+        this.engine = engine;
+        this.rows = rows;
+        this.columns = columns;
+        this.tileWidth = tileWidth;
+        this.tileHeight = tileHeight;
+        setOpaque(true);
+
+        // Turn clicks into board positions
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e)) return;
+                int position = positionAt(e.getX(), e.getY());
+                if (position != -1) {
+                    // Back-date the click by the time the press spent queued (millisecond clock)
+                    long queuedMillis = Math.max(0, System.currentTimeMillis() - e.getWhen());
+                    clickTile(position, System.nanoTime() - queuedMillis * 1_000_000);
+                }
+            }
+        });
+    }
+
+    /**
+     * Sets the images used to paint the tiles and repaints the board. Card id c is shown with
+     * face c % faceIcons.length; null faces are requested from the face request listener when needed.
+     *
+     * @param faceIcons The face images, one per card id or fewer to reuse them.
+     * @param backIcon  The image shown for face-down cards.
+     */
+    public void setIcons(ImageIcon[] faceIcons, ImageIcon backIcon) {
+        this.faceIcons = faceIcons;
+        this.backIcon = backIcon;
+        faceRequested = new boolean[faceIcons.length];
+        repaint();
+    }
+
+    /**
+     * Sets one face image once it has loaded and repaints the visible tiles.
+     *
+     * @param face The face index.
+     * @param icon The face image.
+     */
+    public void setFace(int face, ImageIcon icon) {
+        faceIcons[face] = icon;
+        repaint();
+    }
+
+    public void setTileClickListener(IntConsumer tileClickListener) {
+        this.tileClickListener = tileClickListener;
+    }
+
+    public void setFaceRequestListener(IntConsumer faceRequestListener) {
+        this.faceRequestListener = faceRequestListener;
+    }
+
+    /**
+     * Handles a click on a tile, as if the player had clicked it with the mouse.
+     *
+     * @param position The board position of the tile.
+     */
+    public void clickTile(int position) {
+        clickTile(position, System.nanoTime());
+    }
+
+    private void clickTile(int position, long clickNanos) {
+        this.clickNanos = clickNanos;
+        if (tileClickListener != null) {
+            tileClickListener.accept(position);
+        }
+    }
+
+    /**
+     * Finds the tile under a point.
+     *
+     * @param x The x coordinate within the panel.
+     * @param y The y coordinate within the panel.
+     * @return The board position of the tile, or -1 if the point is outside the grid.
+     */
+    public int positionAt(int x, int y) {
+        if (x < 0 || y < 0) return -1;
+        int column = x / tileWidth;
+        int row = y / tileHeight;
+        if (column >= columns || row >= rows) return -1;
+        int position = row * columns + column;
+        return position < engine.size() ? position : -1;
+    }
+
+    /**
+     * Returns the image currently shown for a tile.
+     *
+     * @param position The board position of the tile.
+     * @return The face or back image, or null while the image is still loading.
+     */
+    public ImageIcon iconAt(int position) {
+        if (faceIcons == null) return null;
+        return engine.isFaceUp(position) ? faceIcons[faceOf(position)] : backIcon;
+    }
+
+    /**
+     * Returns the index of the face image used for the card at a position.
+     *
+     * @param position The board position.
+     * @return The face index.
+     */
+    public int faceOf(int position) {
+        return engine.cardAt(position) % faceIcons.length;
+    }
+
+    /**
+     * Repaints a single tile, used when a card is flipped.
+     *
+     * @param position The board position of the tile.
+     */
+    public void repaintTile(int position) {
+        repaint((position % columns) * tileWidth, (position / columns) * tileHeight, tileWidth, tileHeight);
+    }
+
+    /**
+     * Records the delay from a click until a tile is next painted. Only one flip is timed at a time: a
+     * second call before the paint replaces the first, whose delay is then not recorded. Two flips
+     * painted in the same frame give one sample, for the later flip.
+     *
+     * @param position   The board position of the tile.
+     * @param sinceNanos When the click happened (System.nanoTime).
+     * @param histogram  Where to record the delay.
+     */
+    public void timeNextPaint(int position, long sinceNanos, LatencyHistogram histogram) {
+        timedPosition = position;
+        timedSinceNanos = sinceNanos;
+        timedHistogram = histogram;
+    }
+
+    /**
+     * Drops the flip waiting to be timed, for a board that will not be painted until much later (the
+     * results view covers it, or a new game repaints it), so that wait is not recorded as a delay.
+     */
+    public void cancelTimedPaint() {
+        timedPosition = -1;
+    }
+
+    @Override
+    public Dimension getPreferredSize() {
+        return new Dimension(columns * tileWidth, rows * tileHeight);
+    }
+
+    @Override
+    public Dimension getPreferredScrollableViewportSize() {
+        return new Dimension(Math.min(columns, VIEWPORT_COLUMNS) * tileWidth, Math.min(rows, VIEWPORT_ROWS) * tileHeight);
+    }
+
+    @Override
+    public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+        return orientation == SwingConstants.HORIZONTAL ? tileWidth : tileHeight;
+    }
+
+    @Override
+    public int getScrollableBlockIncrement(Rectangle visibleRect, int orientation, int direction) {
+        // One screen less one tile, so the player keeps a row or column in view
+        return orientation == SwingConstants.HORIZONTAL
+                ? Math.max(tileWidth, visibleRect.width - tileWidth)
+                : Math.max(tileHeight, visibleRect.height - tileHeight);
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportWidth() {
+        return false;
+    }
+
+    @Override
+    public boolean getScrollableTracksViewportHeight() {
+        return false;
+    }
+
+    /**
+     * Paints only the tiles that intersect the clip, so repainting one tile does not redraw the board
+     * and tiles scrolled out of view are never painted.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground() != null ? getBackground() : Color.WHITE);
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+
+        int firstColumn = Math.max(0, clip.x / tileWidth);
+        int lastColumn = Math.min(columns - 1, (clip.x + clip.width - 1) / tileWidth);
+        int firstRow = Math.max(0, clip.y / tileHeight);
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) / tileHeight);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int position = row * columns + column;
+                if (position >= engine.size()) break;
+                paintTile(g, position, column * tileWidth, row * tileHeight);
+            }
+        }
+
+        if (timedPosition != -1 && clip.intersects((timedPosition % columns) * tileWidth,
+                (timedPosition / columns) * tileHeight, tileWidth, tileHeight)) {
+            timedHistogram.record(System.nanoTime() - timedSinceNanos);
+            timedPosition = -1;
+        }
+    }
+
+    private void paintTile(Graphics g, int position, int x, int y) {
+        ImageIcon icon = iconAt(position);
+        if (icon != null && icon.getIconWidth() > 0) {
+            icon.paintIcon(this, g, x, y);
+        } else {
+            g.setColor(EMPTY_TILE_COLOR);
+            g.fillRect(x, y, tileWidth, tileHeight);
+            if (icon == null && faceIcons != null && engine.isFaceUp(position)) {
+                requestFace(faceOf(position));
+            }
+        }
+        if (faceIcons != null && engine.pairCount > faceIcons.length && engine.isFaceUp(position)) {
+            paintPairNumber(g, engine.cardAt(position) + 1, x, y);
+        }
+        g.setColor(BORDER_COLOR);
+        g.drawRect(x, y, tileWidth - 1, tileHeight - 1);
+    }
+
+    private void paintPairNumber(Graphics g, int pairNumber, int x, int y) {
+        String text = Integer.toString(pairNumber);
+        g.setFont(PAIR_NUMBER_FONT);
+        FontMetrics metrics = g.getFontMetrics();
+        int width = metrics.stringWidth(text) + 8;
+        int height = metrics.getHeight();
+        g.setColor(PAIR_NUMBER_BACKGROUND);
+        g.fillRect(x + 2, y + 2, width, height);
+        g.setColor(Color.WHITE);
+        g.drawString(text, x + 6, y + 2 + metrics.getAscent());
+    }
+
+    private void requestFace(int face) {
+        if (faceRequested[face] || faceIcons[face] != null) return;
+        faceRequested[face] = true;
+        if (faceRequestListener != null) {
+            faceRequestListener.accept(face);
+        }
+    }
+}
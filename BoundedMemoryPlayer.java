@@ -0,0 +1,126 @@
+/**
+ * BoundedMemoryPlayer Class
+ * -
+ * Description: A player model with limited, fading memory. It remembers at most a fixed number of
+ * cards (forgetting the oldest first), and before every flip each remembered card is forgotten with a
+ * fixed probability. Otherwise it plays like PerfectMemoryPlayer using only what it still remembers.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class BoundedMemoryPlayer implements PlayerModel {
+
+    final int capacity;   // Maximum number of cards remembered
+    final double decay;   // Chance of forgetting each remembered card before every flip
+
+    // Remembered cards, oldest first
+    final int[] memoryPositions;
+    final int[] memoryIds;
+    int memorySize = 0;
+
+    int[] known = new int[0];  // Remembered card id per position, -1 if not remembered
+    int firstCardId = -1;      // Id of the first card of the current turn
+    int plannedTile = -1;      // Second tile of a remembered pair, flipped next
+
+    /**
+     * Constructor for BoundedMemoryPlayer.
+     *
+     * @param capacity The maximum number of cards remembered at once.
+     * @param decay    The chance, per flip, of forgetting each remembered card (0 for none).
+     */
+    public BoundedMemoryPlayer(int capacity, double decay) {
+        this.capacity = capacity;
+        this.decay = decay;
+        memoryPositions = new int[capacity];
+        memoryIds = new int[capacity];
+    }
+
+    @Override
+    public void newGame(int tiles) {
+        if (known.length != tiles) {
+            known = new int[tiles];
+        }
+        Arrays.fill(known, -1);
+        memorySize = 0;
+        firstCardId = -1;
+        plannedTile = -1;
+    }
+
+    @Override
+    public int chooseTile(GameEngine engine, SplittableRandom random) {
+        fade(engine, random);
+
+        if (engine.card1Selected == -1) {
+            plannedTile = -1;
+            // Look for two remembered cards with the same id
+            for (int i = 0; i < memorySize; i++) {
+                for (int j = i + 1; j < memorySize; j++) {
+                    if (memoryIds[i] == memoryIds[j]) {
+                        plannedTile = memoryPositions[j];
+                        return memoryPositions[i];
+                    }
+                }
+            }
+        } else {
+            if (plannedTile != -1 && !engine.isFaceUp(plannedTile)) {
+                return plannedTile;
+            }
+            // Complete the pair if the partner of the first card is remembered
+            for (int i = 0; i < memorySize; i++) {
+                if (memoryIds[i] == firstCardId && memoryPositions[i] != engine.card1Selected) {
+                    return memoryPositions[i];
+                }
+            }
+        }
+        return PlayerModel.randomFaceDownTile(engine, known, random);
+    }
+
+    @Override
+    public void cardSeen(int position, int cardId, int result) {
+        firstCardId = result == GameEngine.FIRST ? cardId : -1;
+        if (result == GameEngine.MATCH || result == GameEngine.GAME_OVER) {
+            // Both cards are off the board, no need to remember either
+            for (int i = memorySize - 1; i >= 0; i--) {
+                if (memoryIds[i] == cardId) forget(i);
+            }
+            return;
+        }
+        if (known[position] != -1 || capacity == 0) return;
+
+        if (memorySize == capacity) {
+            forget(0); // Oldest card is forgotten first
+        }
+        memoryPositions[memorySize] = position;
+        memoryIds[memorySize] = cardId;
+        memorySize++;
+        known[position] = cardId;
+    }
+
+    /**
+     * Forgets each remembered card with probability decay, and cards no longer on the board.
+     */
+    private void fade(GameEngine engine, SplittableRandom random) {
+        for (int i = memorySize - 1; i >= 0; i--) {
+            if (engine.isMatched(memoryPositions[i]) || (decay > 0 && random.nextDouble() < decay)) {
+                forget(i);
+            }
+        }
+    }
+
+    private void forget(int index) {
+        known[memoryPositions[index]] = -1;
+        memorySize--;
+        System.arraycopy(memoryPositions, index + 1, memoryPositions, index, memorySize - index);
+        System.arraycopy(memoryIds, index + 1, memoryIds, index, memorySize - index);
+    }
+
+    @Override
+    public String toString() {
+        return "bounded(" + capacity + ", " + decay + ")";
+    }
+}
@@ -12,6 +12,10 @@
 import javax.swing.*;
 
 public class Card {
+    // Index of the card's face in the theme (-1 if unused). On boards with more pairs than faces,
+    // several pairs share a face, so this does not identify a pair: matching uses the engine's card ids
+    int face;
+
     // Name of the card, used to identify each unique card (e.g., "Goku", "Vegeta")
     String cardName;
 
@@ -25,6 +29,18 @@ public class Card {
      * @param cardImageIcon The image representing the card.
      */
     public Card(String cardName, ImageIcon cardImageIcon) {
+        this(-1, cardName, cardImageIcon);
+    }
+
+    /**
+     * Constructor to initialize a card with its face index, name and image.
+     *
+     * @param face          The index of the card's face in the theme, shared by every pair with this face.
+     * @param cardName      The name of the card (e.g., "fire").
+     * @param cardImageIcon The image representing the card.
+     */
+    public Card(int face, String cardName, ImageIcon cardImageIcon) {
+        this.face = face;
         this.cardName = cardName;
         this.cardImageIcon = cardImageIcon;
     }
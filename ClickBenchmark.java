@@ -0,0 +1,99 @@
+/**
+ * ClickBenchmark Class
+ * -
+ * Description: Measures the cost of a single card click as the board grows. Compares the original
+ * lookup (board.indexOf on the clicked button plus an icon comparison) with the position-based
+ * lookup and integer pair id comparison used by MatchCards now. Runs without a display.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.util.ArrayList;
+
+public class ClickBenchmark {
+
+    // Board sizes to measure, in tiles
+    static final int[] BOARD_SIZES = {20, 200, 2000, 20000};
+
+    // Number of timed clicks per board size
+    static final int CLICKS = 200_000;
+
+    // Keeps the JIT from removing the measured work
+    static long sink;
+
+    public static void main(String[] args) {
+        System.out.println("Running click benchmark...");
+        System.out.println("Tiles    indexOf (ns/click)    position (ns/click)");
+
+        for (int tiles : BOARD_SIZES) {
+            ArrayList<JButton> board = new ArrayList<>();
+            ImageIcon[] icons = new ImageIcon[tiles];
+            ImageIcon[] pairIcons = new ImageIcon[tiles / 2];
+            for (int i = 0; i < pairIcons.length; i++) {
+                pairIcons[i] = new ImageIcon();
+            }
+            GameEngine engine = new GameEngine(tiles / 2);
+            engine.shuffle();
+            for (int i = 0; i < tiles; i++) {
+                board.add(new JButton());
+                icons[i] = pairIcons[engine.cardAt(i)];
+            }
+
+            // Old path is far slower on big boards, so it gets fewer clicks
+            int legacyClicks = Math.max(1000, CLICKS / (tiles / 20));
+            timeIndexOf(board, icons, legacyClicks); // Warm up
+            double legacy = timeIndexOf(board, icons, legacyClicks);
+            timePosition(engine, CLICKS); // Warm up
+            double position = timePosition(engine, CLICKS);
+
+            System.out.printf("%-8d %-21.1f %.1f%n", tiles, legacy, position);
+        }
+    }
+
+    /**
+     * Times the original click path: find the tile's index by scanning the board, then compare icons.
+     *
+     * @return Average nanoseconds per click.
+     */
+    static double timeIndexOf(ArrayList<JButton> board, ImageIcon[] icons, int clicks) {
+        int tiles = board.size();
+        long start = System.nanoTime();
+        for (int i = 0; i < clicks; i++) {
+            JButton first = board.get((int) ((i * 7919L) % tiles));
+            JButton second = board.get((int) ((i * 104729L + 1) % tiles));
+            int firstIndex = board.indexOf(first);
+            int secondIndex = board.indexOf(second);
+            if (icons[firstIndex].equals(icons[secondIndex])) {
+                sink++;
+            }
+        }
+        return (System.nanoTime() - start) / (double) (clicks * 2);
+    }
+
+    /**
+     * Times the current click path: flip by board position and let the engine compare pair ids.
+     *
+     * @return Average nanoseconds per click.
+     */
+    static double timePosition(GameEngine engine, int clicks) {
+        int tiles = engine.size();
+        engine.reset();
+        engine.resolve();
+        long start = System.nanoTime();
+        for (int i = 0; i < clicks; i++) {
+            int result = engine.flip((int) ((i * 7919L) % tiles));
+            result += engine.flip((int) ((i * 104729L + 1) % tiles));
+            if (engine.card2Selected != -1) {
+                engine.resolve();
+            } else if (engine.matchedPairs == engine.pairCount) {
+                engine.reset();
+                engine.resolve();
+            }
+            sink += result;
+        }
+        return (System.nanoTime() - start) / (double) (clicks * 2);
+    }
+}
@@ -0,0 +1,189 @@
+/**
+ * EdtWatchdog Class
+ * -
+ * Description: Measures how quickly the Event Dispatch Thread answers and reports when it is stuck. A
+ * daemon thread posts a heartbeat event every 100 ms and records how long it waited in the queue. If a
+ * heartbeat has not run within the stall threshold (500 ms, or -Dmindmatch.edtStallMillis=<millis>), the
+ * EDT's stack is captured and logged to System.err while the stall is still going on, so the slow code in
+ * MatchCards or IntroGUI shows up in the trace. Modal dialogs such as the menu's quit confirmation keep
+ * dispatching events and do not count as stalls.
+ * The stall count, longest stall and last stack are published over JMX as mindmatch:type=EdtWatchdog.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.awt.EventQueue;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EdtWatchdog implements EdtWatchdogMBean {
+
+    // How often a heartbeat is posted to the EDT
+    static final long PROBE_INTERVAL_MILLIS = 100;
+
+    // Default time a heartbeat may wait before the EDT counts as stalled
+    static final long DEFAULT_THRESHOLD_MILLIS = 500;
+
+    // Frames of the EDT stack kept per stall
+    static final int MAX_STACK_FRAMES = 40;
+
+    private static EdtWatchdog shared;
+
+    final LatencyHistogram responseTimes = new LatencyHistogram(); // Time each heartbeat waited
+    final long probeIntervalMillis;
+    private volatile long thresholdMillis;
+    private volatile Thread edt;                 // Learned from the first heartbeat
+    private final AtomicLong stallCount = new AtomicLong();
+    private final AtomicLong longestStallNanos = new AtomicLong();
+    private volatile String lastStallStack = "";
+    private final Thread watcher;
+    private volatile boolean stopped = false;
+
+    /**
+     * Constructor for EdtWatchdog. Starts watching straight away.
+     *
+     * @param thresholdMillis     How long a heartbeat may wait before the EDT counts as stalled.
+     * @param probeIntervalMillis How long to wait between heartbeats.
+     */
+    public EdtWatchdog(long thresholdMillis, long probeIntervalMillis) {
+        this.thresholdMillis = thresholdMillis;
+        this.probeIntervalMillis = probeIntervalMillis;
+        watcher = new Thread(this::run, "edt-watchdog");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Returns the watchdog shared by the whole application, starting it and registering it with the
+     * platform MBean server on first use.
+     *
+     * @return The shared watchdog.
+     */
+    public static synchronized EdtWatchdog shared() {
+        if (shared == null) {
+            shared = new EdtWatchdog(Long.getLong("mindmatch.edtStallMillis", DEFAULT_THRESHOLD_MILLIS),
+                    PROBE_INTERVAL_MILLIS);
+            try {
+                shared.register(ManagementFactory.getPlatformMBeanServer());
+            } catch (JMException e) {
+                System.err.println("EDT watchdog not published over JMX: " + e.getMessage());
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Registers the watchdog and its response times with an MBean server.
+     *
+     * @param server The MBean server.
+     * @throws JMException If a name is already registered or the server refuses an MBean.
+     */
+    public void register(MBeanServer server) throws JMException {
+        server.registerMBean(this, new ObjectName(GameMetrics.DOMAIN + ":type=EdtWatchdog"));
+        server.registerMBean(responseTimes, new ObjectName(GameMetrics.DOMAIN + ":type=Latency,name=EdtResponse"));
+    }
+
+    /**
+     * Stops watching. A stall in progress is not reported.
+     */
+    public void stop() {
+        stopped = true;
+        watcher.interrupt();
+    }
+
+    private void run() {
+        try {
+            while (!stopped) {
+                probe();
+                Thread.sleep(probeIntervalMillis);
+            }
+        } catch (InterruptedException e) {
+            // Stopped
+        }
+    }
+
+    /**
+     * Posts one heartbeat and waits for it. Past the threshold the stall is counted and the EDT's stack
+     * captured; the stall's length is known once the heartbeat finally runs.
+     */
+    private void probe() throws InterruptedException {
+        CountDownLatch answered = new CountDownLatch(1);
+        long posted = System.nanoTime();
+        long[] waited = new long[1];
+        EventQueue.invokeLater(() -> {
+            edt = Thread.currentThread();
+            waited[0] = System.nanoTime() - posted;
+            answered.countDown();
+        });
+
+        if (answered.await(thresholdMillis, TimeUnit.MILLISECONDS)) {
+            responseTimes.record(waited[0]);
+            return;
+        }
+
+        // Stalled: capture the stack now, while the EDT is still inside the slow code
+        stallCount.incrementAndGet();
+        String stack = stackOf(edt);
+        lastStallStack = stack;
+        System.err.println("EDT stalled for over " + thresholdMillis + " ms:\n" + stack);
+
+        answered.await();
+        responseTimes.record(waited[0]);
+        longestStallNanos.accumulateAndGet(waited[0], Math::max);
+        System.err.println("EDT stall ended after " + waited[0] / 1_000_000 + " ms");
+    }
+
+    private static String stackOf(Thread thread) {
+        if (thread == null) return "(EDT not started yet)";
+        StackTraceElement[] frames = thread.getStackTrace();
+        StringBuilder stack = new StringBuilder();
+        for (int i = 0; i < Math.min(frames.length, MAX_STACK_FRAMES); i++) {
+            stack.append("\tat ").append(frames[i]).append('\n');
+        }
+        if (frames.length > MAX_STACK_FRAMES) {
+            stack.append("\t... ").append(frames.length - MAX_STACK_FRAMES).append(" more\n");
+        }
+        return stack.toString();
+    }
+
+    @Override
+    public long getStallCount() {
+        return stallCount.get();
+    }
+
+    @Override
+    public double getLongestStallMillis() {
+        return longestStallNanos.get() / 1e6;
+    }
+
+    @Override
+    public long getThresholdMillis() {
+        return thresholdMillis;
+    }
+
+    @Override
+    public void setThresholdMillis(long thresholdMillis) {
+        if (thresholdMillis <= 0) throw new IllegalArgumentException("Threshold must be positive");
+        this.thresholdMillis = thresholdMillis;
+    }
+
+    @Override
+    public String getLastStallStack() {
+        return lastStallStack;
+    }
+
+    @Override
+    public void reset() {
+        stallCount.set(0);
+        longestStallNanos.set(0);
+        lastStallStack = "";
+        responseTimes.reset();
+    }
+}
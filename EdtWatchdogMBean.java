@@ -0,0 +1,34 @@
+/**
+ * EdtWatchdogMBean Interface
+ * -
+ * Description: JMX view of the EdtWatchdog, visible in JConsole or VisualVM as mindmatch:type=EdtWatchdog.
+ * The threshold can be changed while the game runs; the EDT response times are published next to it as
+ * mindmatch:type=Latency,name=EdtResponse.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+public interface EdtWatchdogMBean {
+
+    long getStallCount();
+
+    double getLongestStallMillis();
+
+    long getThresholdMillis();
+
+    void setThresholdMillis(long thresholdMillis);
+
+    /**
+     * Returns the Event Dispatch Thread's stack captured during the last stall.
+     *
+     * @return The stack, one frame per line, or an empty string if there has been no stall.
+     */
+    String getLastStallStack();
+
+    /**
+     * Clears the stall count, the longest stall and the response times.
+     */
+    void reset();
+}
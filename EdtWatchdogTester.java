@@ -0,0 +1,117 @@
+/**
+ * EdtWatchdogTester Class
+ * -
+ * Description: Tests the EdtWatchdog: an idle EDT must not be reported, a slow event must be counted once
+ * with its length and with the slow method in the captured stack, a modal-style nested event loop must
+ * not count as a stall, and the attributes must be readable over JMX. Runs without a display
+ * (java -ea EdtWatchdogTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.swing.*;
+import java.awt.*;
+
+public class EdtWatchdogTester {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("Starting EDT Watchdog Tester...");
+
+        testIdle();
+        testStall();
+        testNestedEventLoop();
+        testMBean();
+
+        System.out.println("All EDT watchdog tests completed successfully.");
+    }
+
+    /**
+     * Checks an idle EDT answers quickly and is never reported.
+     */
+    public static void testIdle() throws InterruptedException {
+        System.out.println("Testing idle EDT...");
+
+        EdtWatchdog watchdog = new EdtWatchdog(100, 10);
+        Thread.sleep(300);
+        watchdog.stop();
+        assert watchdog.getStallCount() == 0 : "Idle EDT reported " + watchdog.getStallCount() + " stalls.";
+        assert watchdog.responseTimes.getCount() > 5 : "Only " + watchdog.responseTimes.getCount() + " heartbeats.";
+        System.out.println("EDT response: " + watchdog.responseTimes);
+    }
+
+    /**
+     * Blocks the EDT and checks the stall is counted once, timed and traced to the blocking method.
+     */
+    public static void testStall() throws Exception {
+        System.out.println("Testing stall...");
+
+        EdtWatchdog watchdog = new EdtWatchdog(100, 10);
+        Thread.sleep(50); // Let the watchdog learn which thread is the EDT
+        EventQueue.invokeAndWait(() -> slowPath(400));
+        Thread.sleep(100);
+        watchdog.stop();
+
+        assert watchdog.getStallCount() == 1 : "Stall counted " + watchdog.getStallCount() + " times.";
+        assert watchdog.getLongestStallMillis() >= 300 : "Longest stall " + watchdog.getLongestStallMillis() + " ms.";
+        assert watchdog.getLastStallStack().contains("EdtWatchdogTester.slowPath") : "Stack misses the slow method:\n"
+                + watchdog.getLastStallStack();
+    }
+
+    /**
+     * Runs a nested event loop, as a modal dialog does, and checks the heartbeats keep being answered.
+     */
+    public static void testNestedEventLoop() throws Exception {
+        System.out.println("Testing nested event loop...");
+
+        EdtWatchdog watchdog = new EdtWatchdog(100, 10);
+        EventQueue.invokeAndWait(() -> {
+            SecondaryLoop loop = Toolkit.getDefaultToolkit().getSystemEventQueue().createSecondaryLoop();
+            Timer timer = new Timer(400, e -> loop.exit());
+            timer.setRepeats(false);
+            timer.start();
+            loop.enter(); // Returns after 400 ms, dispatching events meanwhile
+        });
+        watchdog.stop();
+        assert watchdog.getStallCount() == 0 : "Nested event loop counted as a stall.";
+    }
+
+    /**
+     * Reads the attributes and changes the threshold through an MBean server.
+     */
+    public static void testMBean() throws Exception {
+        System.out.println("Testing MBean...");
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        EdtWatchdog watchdog = new EdtWatchdog(500, 10);
+        watchdog.register(server);
+        ObjectName name = new ObjectName("mindmatch:type=EdtWatchdog");
+
+        server.setAttribute(name, new javax.management.Attribute("ThresholdMillis", 80L));
+        assert watchdog.getThresholdMillis() == 80 : "Threshold not changed over JMX.";
+        Thread.sleep(50);
+        EventQueue.invokeAndWait(() -> slowPath(250));
+        Thread.sleep(50);
+        watchdog.stop();
+
+        assert (Long) server.getAttribute(name, "StallCount") == 1 : "Stall count over JMX.";
+        assert (Double) server.getAttribute(name, "LongestStallMillis") >= 200 : "Longest stall over JMX.";
+        assert server.isRegistered(new ObjectName("mindmatch:type=Latency,name=EdtResponse")) : "Response times missing.";
+        server.invoke(name, "reset", null, null);
+        assert watchdog.getStallCount() == 0 && watchdog.getLastStallStack().isEmpty() : "Reset over JMX did not clear.";
+    }
+
+    // Stands in for slow work on the EDT, named so it can be found in the stack
+    private static void slowPath(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
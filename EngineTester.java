@@ -0,0 +1,403 @@
+/**
+ * EngineTester Class
+ * -
+ * Description: Tests the headless GameEngine. Replays random click sequences against both the engine and
+ * a copy of the original icon-based MatchCards logic and checks that they always agree, then checks
+ * that the click path does not allocate, and that the server's PackedSession plays by the same rules.
+ * Run with assertions enabled (java -ea EngineTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+public class EngineTester {
+
+    public static void main(String[] args) {
+        System.out.println("Starting Engine Tester...");
+
+        testMatchesLegacyLogic();
+        testClickPathAllocation();
+        testSimulationIsReproducible();
+        testTournament();
+        testDealIsReplayable();
+        testPackedSessionMatchesEngine();
+        testShuffleUniformity();
+
+        System.out.println("All engine tests completed successfully.");
+    }
+
+    /**
+     * Plays many random games on both the engine and the legacy logic, comparing the
+     * face-up state of every tile and all counters after each action.
+     */
+    public static void testMatchesLegacyLogic() {
+        System.out.println("Testing engine against legacy handleCardClick/hideCards...");
+
+        Random random = new Random(42);
+        for (int game = 0; game < 2000; game++) {
+            int pairs = 1 + random.nextInt(12);
+            GameEngine engine = new GameEngine(pairs);
+            engine.shuffle();
+            LegacyBoard legacy = new LegacyBoard(engine.cardIds, pairs);
+
+            for (int step = 0; step < 400; step++) {
+                int action = random.nextInt(20);
+                if (action == 0 && (!engine.gameReady || engine.card2Selected != -1)) {
+                    // Hide delay expired, the timer only runs during the preview or after a mismatch
+                    engine.resolve();
+                    legacy.hideCards();
+                } else if (action == 1 && random.nextInt(10) == 0) {
+                    // Restart keeps the current order in both models
+                    engine.reset();
+                    legacy.restartGame();
+                } else {
+                    int position = random.nextInt(engine.size());
+                    int result = engine.flip(position);
+                    int legacyResult = legacy.handleCardClick(position);
+                    assert result == legacyResult : "Flip result differs at game " + game + " step " + step;
+                }
+                assertSameState(engine, legacy, game, step);
+            }
+        }
+
+        System.out.println("Engine matches legacy logic.");
+    }
+
+    /**
+     * Checks that flip() and resolve() do not allocate once warmed up.
+     */
+    public static void testClickPathAllocation() {
+        System.out.println("Testing click path allocation...");
+
+        GameEngine engine = new GameEngine(10);
+        playRandomClicks(engine, 1_000_000); // Warm up
+
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        playRandomClicks(engine, 1_000_000);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        System.out.println("Bytes allocated by 1,000,000 clicks: " + allocated);
+        assert allocated == 0 : "Click path allocated " + allocated + " bytes.";
+    }
+
+    /**
+     * Checks that simulations with the same seed give the same distribution, and that the models rank as expected.
+     */
+    public static void testSimulationIsReproducible() {
+        System.out.println("Testing Monte-Carlo simulation...");
+
+        MonteCarloSimulator.Result perfect = MonteCarloSimulator.simulate(10, PerfectMemoryPlayer::new, 20_000, 7);
+        MonteCarloSimulator.Result again = MonteCarloSimulator.simulate(10, PerfectMemoryPlayer::new, 20_000, 7);
+        MonteCarloSimulator.Result bounded = MonteCarloSimulator.simulate(10, () -> new BoundedMemoryPlayer(4, 0.1), 20_000, 7);
+        MonteCarloSimulator.Result random = MonteCarloSimulator.simulate(10, RandomPlayer::new, 20_000, 7);
+
+        assert perfect.games == 20_000 : "Simulated " + perfect.games + " games instead of 20000.";
+        assert java.util.Arrays.equals(perfect.errorHistogram, again.errorHistogram) : "Same seed gave different results.";
+        assert perfect.meanErrors() < bounded.meanErrors() : "Perfect memory should make fewer errors than bounded memory.";
+        assert bounded.meanErrors() < random.meanErrors() : "Bounded memory should make fewer errors than random play.";
+
+        // A single game replays from its seed, whatever the engine played before
+        GameEngine fresh = new GameEngine(10);
+        GameEngine used = new GameEngine(10);
+        MonteCarloSimulator.playGame(used, new PerfectMemoryPlayer(), new java.util.SplittableRandom(1));
+        long gameSeed = MonteCarloSimulator.gameSeed(7, 5);
+        int errors = MonteCarloSimulator.playGame(fresh, new PerfectMemoryPlayer(), new java.util.SplittableRandom(gameSeed));
+        int replayed = MonteCarloSimulator.playGame(used, new PerfectMemoryPlayer(), new java.util.SplittableRandom(gameSeed));
+        assert errors == replayed && java.util.Arrays.equals(fresh.cardIds, used.cardIds) : "Game did not replay from its seed.";
+
+        System.out.println("Simulation is reproducible.");
+    }
+
+    /**
+     * Checks that two-player games account for every pair and error, that tournaments are reproducible,
+     * and that better memory wins.
+     */
+    public static void testTournament() {
+        System.out.println("Testing tournament runner...");
+
+        GameEngine engine = new GameEngine(10);
+        PlayerModel[] seats = {new PerfectMemoryPlayer(), new BoundedMemoryPlayer(4, 0.1)};
+        for (int game = 0; game < 1000; game++) {
+            long[] pairsFound = new long[2];
+            long[] errors = new long[2];
+            TournamentRunner.playGame(engine, seats, game % 2, new java.util.SplittableRandom(game), pairsFound, errors);
+            assert pairsFound[0] + pairsFound[1] == 10 : "Game " + game + " found " + (pairsFound[0] + pairsFound[1]) + " pairs.";
+            assert errors[0] + errors[1] == engine.errorCount : "Game " + game + " lost track of errors.";
+        }
+
+        // Both seatings of a deal get the same board, whatever the engine held before
+        for (long deal = 0; deal < 100; deal++) {
+            long[] pairsFound = new long[2];
+            long[] errors = new long[2];
+            long gameSeed = MonteCarloSimulator.gameSeed(7, deal);
+            TournamentRunner.playGame(engine, seats, 0, new java.util.SplittableRandom(gameSeed), pairsFound, errors);
+            int[] firstSeating = engine.cardIds.clone();
+            TournamentRunner.playGame(engine, seats, 1, new java.util.SplittableRandom(gameSeed), pairsFound, errors);
+            assert java.util.Arrays.equals(firstSeating, engine.cardIds) : "Seatings of deal " + deal + " got different boards.";
+        }
+
+        TournamentRunner.Standing standing = TournamentRunner.play(10, PerfectMemoryPlayer::new, RandomPlayer::new, 20_000, 7);
+        TournamentRunner.Standing again = TournamentRunner.play(10, PerfectMemoryPlayer::new, RandomPlayer::new, 20_000, 7);
+        assert standing.games == 20_000 : "Played " + standing.games + " games instead of 20000.";
+        assert standing.winsFirst + standing.winsSecond + standing.draws == standing.games : "Games without a result.";
+        assert standing.winsFirst == again.winsFirst && standing.errorsSecond == again.errorsSecond : "Same seed gave different standings.";
+        assert standing.winRateFirst() > 0.8 : "Perfect memory won only " + standing.winRateFirst() + " against random play.";
+        assert standing.meanErrorsFirst() < standing.meanErrorsSecond() : "Perfect memory made more errors than random play.";
+
+        System.out.printf("Perfect memory beats random play in %.1f%% of games.%n", 100 * standing.winRateFirst());
+    }
+
+    /**
+     * Checks that dealing with a seed always gives the same board, from any starting order.
+     */
+    public static void testDealIsReplayable() {
+        System.out.println("Testing replayable deals...");
+
+        GameEngine engine = new GameEngine(10);
+        engine.shuffle();
+        long seed = engine.seed;
+        int[] dealt = engine.cardIds.clone();
+
+        engine.shuffle(); // Different order
+        engine.deal(seed);
+        assert java.util.Arrays.equals(dealt, engine.cardIds) : "Deal could not be replayed from its seed.";
+
+        System.out.println("Deals replay from their seed.");
+    }
+
+    /**
+     * Plays random flips on a PackedSession and a GameEngine dealt from the same seed, on boards that
+     * need 4, 8 and 16 bits per card id, letting the hide delay expire at random moments.
+     */
+    public static void testPackedSessionMatchesEngine() {
+        System.out.println("Testing packed session against the engine...");
+
+        Random random = new Random(7);
+        long delayNanos = 1_000_000_000L;
+        for (int game = 0; game < 3000; game++) {
+            int pairs = game % 3 == 0 ? 1 + random.nextInt(16) : game % 3 == 1 ? 17 + random.nextInt(240) : 257 + random.nextInt(300);
+            long seed = random.nextLong();
+            long now = System.nanoTime();
+            PackedSession session = new PackedSession(1, pairs * 2, seed, 1000);
+            GameEngine engine = new GameEngine(pairs);
+            engine.deal(seed);
+            for (int position = 0; position < engine.size(); position++) {
+                assert session.cardAt(position) == engine.cardAt(position) : "Deal differs at game " + game;
+            }
+
+            for (int step = 0; step < 200; step++) {
+                if (random.nextInt(8) == 0) {
+                    // Let the hide delay pass; the engine's timer only fires while a hide is pending
+                    now += delayNanos * 2;
+                    if (!engine.gameReady || engine.card2Selected != -1) engine.resolve();
+                    session.resolveIfDue(now);
+                } else {
+                    int position = random.nextInt(engine.size());
+                    now += 1000;
+                    int result = session.flip(position, now);
+                    assert result == engine.flip(position) : "Flip result differs at game " + game + " step " + step;
+                }
+                assert session.errorCount() == engine.errorCount && session.score() == engine.score
+                        && session.matchedPairs() == engine.matchedPairs && session.isReady() == engine.gameReady
+                        : "Counters differ at game " + game + " step " + step;
+                for (int position = 0; position < engine.size(); position++) {
+                    assert session.isFaceUp(position) == engine.isFaceUp(position)
+                            : "Tile " + position + " differs at game " + game + " step " + step;
+                }
+            }
+        }
+
+        // 65536 x 65536 tiles wraps to 0 in int arithmetic and must still be refused
+        boolean refused = false;
+        try {
+            new PackedSession(65536, 65536, 1, 1000);
+        } catch (IllegalArgumentException e) {
+            refused = true;
+        }
+        assert refused : "Packed session accepted a board whose tile count overflows.";
+
+        System.out.println("Packed session matches the engine.");
+    }
+
+    /**
+     * Chi-squared test over every distinct layout of a 3-pair board (90 layouts). The engine's shuffle
+     * must pass, and the old naive shuffle (swap each slot with any slot) must fail, showing the test
+     * is strong enough to catch that bias.
+     */
+    public static void testShuffleUniformity() {
+        System.out.println("Testing shuffle uniformity...");
+
+        int shuffles = 900_000;
+        GameEngine engine = new GameEngine(3);
+        java.util.SplittableRandom random = new java.util.SplittableRandom(2025);
+
+        long[] fisherYates = new long[729];
+        long[] naive = new long[729];
+        for (int i = 0; i < shuffles; i++) {
+            engine.deal(random.nextLong());
+            fisherYates[layoutCode(engine.cardIds)]++;
+
+            int[] ids = {0, 1, 2, 0, 1, 2};
+            for (int a = 0; a < ids.length; a++) {
+                int b = random.nextInt(ids.length);
+                int temp = ids[a];
+                ids[a] = ids[b];
+                ids[b] = temp;
+            }
+            naive[layoutCode(ids)]++;
+        }
+
+        // Valid layouts have each of the three ids exactly twice
+        int layouts = 0;
+        double chiSquared = 0;
+        double naiveChiSquared = 0;
+        double expected = shuffles / 90.0;
+        for (int code = 0; code < 729; code++) {
+            int[] counts = new int[3];
+            for (int c = code, k = 0; k < 6; k++, c /= 3) counts[c % 3]++;
+            if (counts[0] != 2 || counts[1] != 2) continue;
+            layouts++;
+            chiSquared += (fisherYates[code] - expected) * (fisherYates[code] - expected) / expected;
+            naiveChiSquared += (naive[code] - expected) * (naive[code] - expected) / expected;
+        }
+        double critical = chiSquaredCritical(layouts - 1, 3.09); // p = 0.001
+
+        System.out.printf(java.util.Locale.ROOT, "Chi-squared: Fisher-Yates %.1f, naive %.1f, critical %.1f%n",
+                chiSquared, naiveChiSquared, critical);
+        assert layouts == 90 : "Expected 90 layouts, found " + layouts;
+        assert chiSquared < critical : "Shuffle is not uniform (chi-squared " + chiSquared + ").";
+        assert naiveChiSquared > critical : "Test did not detect the naive shuffle's bias.";
+    }
+
+    /**
+     * Encodes a 6-tile layout of ids 0-2 as a base-3 number.
+     */
+    private static int layoutCode(int[] ids) {
+        int code = 0;
+        for (int i = ids.length - 1; i >= 0; i--) {
+            code = code * 3 + ids[i];
+        }
+        return code;
+    }
+
+    /**
+     * Approximates the chi-squared critical value with the Wilson-Hilferty transformation.
+     *
+     * @param degreesOfFreedom The degrees of freedom.
+     * @param z                The standard normal quantile of the significance level.
+     */
+    static double chiSquaredCritical(int degreesOfFreedom, double z) {
+        double k = degreesOfFreedom;
+        double term = 1 - 2 / (9 * k) + z * Math.sqrt(2 / (9 * k));
+        return k * term * term * term;
+    }
+
+    private static void playRandomClicks(GameEngine engine, int clicks) {
+        int seed = 12345;
+        for (int i = 0; i < clicks; i++) {
+            seed = seed * 1103515245 + 12345;
+            int result = engine.flip((seed >>> 8) % engine.size());
+            if (result == GameEngine.MISMATCH) {
+                engine.resolve();
+            } else if (result == GameEngine.GAME_OVER || !engine.gameReady) {
+                engine.reset();
+                engine.resolve();
+            }
+        }
+    }
+
+    private static void assertSameState(GameEngine engine, LegacyBoard legacy, int game, int step) {
+        String where = " at game " + game + " step " + step;
+        assert engine.errorCount == legacy.errorCount : "Error count differs" + where;
+        assert engine.score == legacy.score : "Score differs" + where;
+        assert engine.matchedPairs == legacy.matchedPairs : "Matched pairs differ" + where;
+        assert engine.gameReady == legacy.gameReady : "Ready state differs" + where;
+        for (int i = 0; i < engine.size(); i++) {
+            assert engine.isFaceUp(i) == (legacy.icons[i] != LegacyBoard.BACK) : "Tile " + i + " differs" + where;
+        }
+    }
+
+    /**
+     * The MatchCards rules as they were before GameEngine, with icons replaced by plain objects.
+     */
+    private static class LegacyBoard {
+        static final Object BACK = new Object();
+
+        final Object[] faces;  // Face icon at each position
+        final Object[] icons;  // Icon currently shown at each position
+        int errorCount = 0;
+        int matchedPairs = 0;
+        int score = 100;
+        boolean gameReady = false;
+        int card1Selected = -1;
+        int card2Selected = -1;
+
+        LegacyBoard(int[] cardIds, int pairs) {
+            Object[] pairIcons = new Object[pairs];
+            for (int i = 0; i < pairs; i++) {
+                pairIcons[i] = new Object();
+            }
+            faces = new Object[cardIds.length];
+            icons = new Object[cardIds.length];
+            for (int i = 0; i < cardIds.length; i++) {
+                faces[i] = pairIcons[cardIds[i]];
+                icons[i] = faces[i];
+            }
+        }
+
+        int handleCardClick(int tile) {
+            if (!gameReady || icons[tile] != BACK) return GameEngine.IGNORED;
+
+            if (card1Selected == -1) {
+                card1Selected = tile;
+                icons[tile] = faces[tile];
+                return GameEngine.FIRST;
+            } else if (card2Selected == -1) {
+                card2Selected = tile;
+                icons[tile] = faces[tile];
+                if (!icons[card1Selected].equals(icons[card2Selected])) {
+                    errorCount++;
+                    score -= 1;
+                    return GameEngine.MISMATCH;
+                }
+                card1Selected = -1;
+                card2Selected = -1;
+                matchedPairs++;
+                return matchedPairs == faces.length / 2 ? GameEngine.GAME_OVER : GameEngine.MATCH;
+            }
+            return GameEngine.IGNORED;
+        }
+
+        void hideCards() {
+            if (gameReady && card1Selected != -1 && card2Selected != -1) {
+                icons[card1Selected] = BACK;
+                icons[card2Selected] = BACK;
+                card1Selected = -1;
+                card2Selected = -1;
+            } else {
+                for (int i = 0; i < icons.length; i++) {
+                    icons[i] = BACK;
+                }
+                gameReady = true;
+            }
+        }
+
+        void restartGame() {
+            gameReady = false;
+            card1Selected = -1;
+            card2Selected = -1;
+            matchedPairs = 0;
+            errorCount = 0;
+            score = 100;
+            for (int i = 0; i < icons.length; i++) {
+                icons[i] = faces[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/**
+ * GameEngine Class
+ * -
+ * Description: Headless game state for the memory-matching game. Holds the card id at each board
+ * position, the matched tiles as a bitset, the current selection and the error/score counters.
+ * MatchCards only renders what this class decides, so the same rules can be run without a display.
+ * The flip/resolve path works on primitives only and does not allocate.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.SplittableRandom;
+
+public class GameEngine {
+
+    // Results returned by flip()
+    public static final int IGNORED = 0;    // Not ready, tile already face-up, or two cards already showing
+    public static final int FIRST = 1;      // First card of a pair turned over
+    public static final int MATCH = 2;      // Second card matches the first
+    public static final int MISMATCH = 3;   // Second card does not match, resolve() hides both
+    public static final int GAME_OVER = 4;  // Last pair matched
+
+    // Score at the start of every game, one point is lost per error
+    public static final int START_SCORE = 100;
+
+    // Board state
+    final int pairCount;
+    final int[] cardIds;   // Pair id of the card at each board position
+    final long[] matched;  // One bit per board position, set once the tile is matched
+    long seed;             // Seed of the current deal, deal(seed) reproduces the board
+
+    // Game state variables
+    int errorCount = 0;
+    int matchedPairs = 0;
+    int score = START_SCORE;
+    boolean gameReady = false;  // False while the cards are shown face-up before play
+    int card1Selected = -1;     // Position of the first selected card, -1 if none
+    int card2Selected = -1;     // Position of the second selected card, -1 if none
+
+    /**
+     * Constructor for GameEngine. Lays out each pair id twice, in the same order
+     * MatchCards builds its deck (all ids, then all ids again).
+     *
+     * @param pairCount The number of distinct card pairs on the board.
+     */
+    public GameEngine(int pairCount) {
+        this.pairCount = pairCount;
+        cardIds = new int[pairCount * 2];
+        for (int i = 0; i < cardIds.length; i++) {
+            cardIds[i] = i % pairCount;
+        }
+        matched = new long[(cardIds.length + 63) >>> 6];
+    }
+
+    /**
+     * Shuffles the card ids to randomize card positions on the board, using a new random seed.
+     * The seed is kept in the seed field so the deal can be replayed.
+     */
+    public void shuffle() {
+        // Unseeded SplittableRandom draws from a lock-free global sequence, safe from any thread
+        deal(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Lays the cards out in the order the given seed produces. The same seed always gives
+     * the same board, whatever the current order is.
+     *
+     * @param seed The seed of the deal.
+     */
+    public void deal(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < cardIds.length; i++) {
+            cardIds[i] = i % pairCount;
+        }
+        shuffle(new SplittableRandom(seed));
+    }
+
+    /**
+     * Shuffles the card ids with an unbiased Fisher-Yates shuffle driven by the given generator,
+     * so the same generator state always produces the same deal.
+     *
+     * @param random The generator to draw swap positions from.
+     */
+    public void shuffle(SplittableRandom random) {
+        for (int i = cardIds.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            // Swap ids
+            int temp = cardIds[i];
+            cardIds[i] = cardIds[j];
+            cardIds[j] = temp;
+        }
+    }
+
+    /**
+     * Turns over the card at the given position, checking for a match when it is the second card.
+     *
+     * @param position The board position that was clicked.
+     * @return One of IGNORED, FIRST, MATCH, MISMATCH or GAME_OVER.
+     */
+    public int flip(int position) {
+        if (!gameReady || isFaceUp(position)) return IGNORED;
+
+        if (card1Selected == -1) {
+            // Select first card
+            card1Selected = position;
+            return FIRST;
+        }
+        if (card2Selected != -1) return IGNORED; // Waiting for resolve()
+
+        // Select second card and check for match
+        card2Selected = position;
+        if (cardIds[card1Selected] != cardIds[card2Selected]) {
+            errorCount++;
+            score -= 1;
+            return MISMATCH;
+        }
+
+        // Cards match, reset selections
+        setMatched(card1Selected);
+        setMatched(card2Selected);
+        card1Selected = -1;
+        card2Selected = -1;
+        matchedPairs++;
+        return matchedPairs == pairCount ? GAME_OVER : MATCH;
+    }
+
+    /**
+     * Called when the hide delay expires. Turns a mismatched pair face-down again, or, when no
+     * mismatch is pending, ends the face-up preview by turning every card face-down.
+     *
+     * @return True if a mismatched pair was hidden, false if the whole board was turned face-down.
+     */
+    public boolean resolve() {
+        if (gameReady && card1Selected != -1 && card2Selected != -1) {
+            card1Selected = -1;
+            card2Selected = -1;
+            return true;
+        }
+        for (int i = 0; i < matched.length; i++) {
+            matched[i] = 0L;
+        }
+        card1Selected = -1;
+        card2Selected = -1;
+        gameReady = true;
+        return false;
+    }
+
+    /**
+     * Resets all game variables and shows the cards face-up until the next resolve().
+     * The card order is left unchanged, callers shuffle separately.
+     */
+    public void reset() {
+        gameReady = false;
+        card1Selected = -1;
+        card2Selected = -1;
+        matchedPairs = 0;
+        errorCount = 0;
+        score = START_SCORE;
+        for (int i = 0; i < matched.length; i++) {
+            matched[i] = 0L;
+        }
+    }
+
+    /**
+     * Checks whether the card at a position is currently showing its face.
+     *
+     * @param position The board position to check.
+     * @return True during the preview, for matched cards and for the current selection.
+     */
+    public boolean isFaceUp(int position) {
+        return !gameReady || isMatched(position) || position == card1Selected || position == card2Selected;
+    }
+
+    /**
+     * Checks whether the card at a position has been matched.
+     *
+     * @param position The board position to check.
+     * @return True if the tile belongs to a matched pair.
+     */
+    public boolean isMatched(int position) {
+        return (matched[position >>> 6] & (1L << position)) != 0;
+    }
+
+    /**
+     * Returns the pair id of the card at a position.
+     *
+     * @param position The board position.
+     * @return The pair id, between 0 and pairCount - 1.
+     */
+    public int cardAt(int position) {
+        return cardIds[position];
+    }
+
+    /**
+     * Returns the number of positions on the board.
+     *
+     * @return Twice the number of pairs.
+     */
+    public int size() {
+        return cardIds.length;
+    }
+
+    private void setMatched(int position) {
+        matched[position >>> 6] |= 1L << position;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * GameLog Class
+ * -
+ * Description: Append-only binary log of played games, backed by a memory-mapped file. Each game is
+ * written as one self-contained record (see GameRecorder for the layout), copied into the mapped region
+ * in a single step once the game ends. Pages are forced to disk by a background thread, never on the
+ * caller's thread (appends run on the EDT when a game ends). The file header holds the offset just past
+ * the last durable record: the flusher only advances it after forcing the records it covers, so after a
+ * crash the header never points past bytes that did not reach the disk. A crash loses at most the games
+ * of the last flush interval.
+ * -
+ * File layout:
+ * header (64 bytes): int magic "MMGL", int version, long committed end offset, rest reserved
+ * records from offset 64: int length (including itself), then the record body
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class GameLog {
+
+    static final int MAGIC = 0x4D4D474C; // "MMGL"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int COMMITTED_OFFSET = 8; // Position of the committed end offset in the header
+
+    // Size of each mapped region of the file, grown one region at a time
+    static final int REGION_SIZE = 4 * 1024 * 1024;
+
+    // How often dirty pages are forced to disk
+    static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+    private static GameLog shared;
+
+    final File file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private MappedByteBuffer region;     // Mapped window the next record is written to
+    private long regionStart;            // File offset of the window's first byte
+    private long committed;              // File offset just past the last appended record
+    private long durable;                // Committed offset stored in the header, records before it are on disk
+    private final List<MappedByteBuffer> retired = new ArrayList<>(); // Full windows not forced yet
+    private final Object forceLock = new Object(); // One force at a time, so the header only moves forward
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Opens a log file, creating it if needed. New records are appended after the last complete one.
+     *
+     * @param file The log file.
+     * @throws IOException If the file cannot be opened or is not a game log.
+     */
+    public GameLog(File file) throws IOException {
+        this.file = file;
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean created = channel.size() == 0;
+        header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        if (created) {
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putLong(COMMITTED_OFFSET, HEADER_SIZE);
+        } else if (header.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException(file + " is not a game log");
+        }
+        committed = header.getLong(COMMITTED_OFFSET);
+        durable = committed;
+        mapRegion(committed, 0);
+
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-log-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::force, FLUSH_INTERVAL_MILLIS, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the log shared by every game in this process, opening it on first use. The file is
+     * mindmatch-games.log in the working directory, or -Dmindmatch.gameLog=<path>.
+     *
+     * @return The shared log, or null if it could not be opened (games are then not recorded).
+     */
+    public static synchronized GameLog shared() {
+        if (shared == null) {
+            File file = new File(System.getProperty("mindmatch.gameLog", "mindmatch-games.log"));
+            try {
+                shared = new GameLog(file);
+                Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "game-log-close"));
+            } catch (IOException e) {
+                System.err.println("Game log disabled, could not open " + file + ": " + e.getMessage());
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Appends one record. The bytes between the buffer's position and limit are copied into the
+     * mapped file; nothing is forced here, the next force() makes the record durable.
+     *
+     * @param record The complete record, starting with its int length.
+     */
+    public synchronized void append(ByteBuffer record) {
+        int length = record.remaining();
+        try {
+            if (committed + length > regionStart + region.capacity()) {
+                mapRegion(committed, length);
+            }
+        } catch (IOException e) {
+            System.err.println("Game log write failed: " + e.getMessage());
+            return;
+        }
+        region.position((int) (committed - regionStart));
+        region.put(record);
+        committed += length;
+    }
+
+    /**
+     * Returns the file offset just past the last appended record.
+     *
+     * @return The committed end offset.
+     */
+    public synchronized long committedEnd() {
+        return committed;
+    }
+
+    /**
+     * Forces the records appended since the last call to disk, then moves the header's committed
+     * offset past them and forces the header. Appends carry on while the records are forced.
+     */
+    public void force() {
+        synchronized (forceLock) {
+            long end;
+            List<MappedByteBuffer> full;
+            MappedByteBuffer current;
+            synchronized (this) {
+                if (committed == durable || !channel.isOpen()) return;
+                end = committed;
+                full = new ArrayList<>(retired);
+                retired.clear();
+                current = region;
+            }
+            for (MappedByteBuffer window : full) {
+                window.force();
+            }
+            current.force();
+            header.putLong(COMMITTED_OFFSET, end); // Only once every record before end is on disk
+            header.force();
+            synchronized (this) {
+                durable = end;
+            }
+        }
+    }
+
+    /**
+     * Forces outstanding records to disk and closes the file.
+     */
+    public void close() {
+        flusher.shutdown();
+        force();
+        synchronized (this) {
+            if (!channel.isOpen()) return;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                System.err.println("Game log close failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Maps a new window starting at the given offset, large enough for at least minimumLength bytes.
+     * The previous window is left for the flusher to force.
+     */
+    private void mapRegion(long start, int minimumLength) throws IOException {
+        if (region != null) {
+            retired.add(region);
+        }
+        regionStart = start;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.max(REGION_SIZE, minimumLength));
+    }
+}
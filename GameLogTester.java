@@ -0,0 +1,196 @@
+/**
+ * GameLogTester Class
+ * -
+ * Description: Tests the GameLog and GameRecorder: recorded games can be read back exactly after the
+ * log is reopened, a partly written record after a crash is ignored and overwritten, and recording a
+ * flip costs only a few nanoseconds. Runs without a display (java -ea GameLogTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+public class GameLogTester {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Game Log Tester...");
+
+        File file = File.createTempFile("mindmatch-log-test", ".log");
+        file.delete();
+        file.deleteOnExit();
+
+        testRoundTrip(file);
+        testTornRecordIsIgnored(file);
+        testHeaderFollowsForce();
+        testFlipCost();
+
+        System.out.println("All game log tests completed successfully.");
+    }
+
+    /**
+     * Records a few games, reopens the log and checks every field of every record.
+     */
+    public static void testRoundTrip(File file) throws IOException {
+        System.out.println("Testing record round trip...");
+
+        GameLog log = new GameLog(file);
+        GameRecorder recorder = new GameRecorder(log);
+        for (int game = 0; game < 3; game++) {
+            recorder.beginGame(1000 + game, 4, 5);
+            for (int flip = 0; flip <= game * 2; flip++) {
+                recorder.flip(flip, GameEngine.FIRST + flip % 3);
+            }
+            recorder.endGame(game, GameEngine.START_SCORE - game, game == 2);
+        }
+        log.close();
+
+        ByteBuffer data = readCommitted(file);
+        for (int game = 0; game < 3; game++) {
+            int start = data.position();
+            int length = data.getInt();
+            assert data.getLong() == 1000 + game : "Seed of game " + game + " differs.";
+            assert data.getShort() == 4 && data.getShort() == 5 : "Board size of game " + game + " differs.";
+            assert data.getLong() > 0 : "Start time missing.";
+            int flips = data.getInt();
+            assert flips == game * 2 + 1 : "Game " + game + " has " + flips + " flips.";
+            long lastNanos = -1;
+            for (int flip = 0; flip < flips; flip++) {
+                assert data.getShort() == flip : "Flip position differs.";
+                assert data.get() == GameEngine.FIRST + flip % 3 : "Flip result differs.";
+                long nanos = data.getLong();
+                assert nanos >= lastNanos : "Flip times go backwards.";
+                lastNanos = nanos;
+            }
+            assert data.getInt() == game : "Error count differs.";
+            assert data.getInt() == GameEngine.START_SCORE - game : "Score differs.";
+            assert data.get() == (game == 2 ? 1 : 0) : "Completed flag differs.";
+            assert data.position() - start == length : "Record length differs.";
+        }
+        assert !data.hasRemaining() : "Unexpected bytes after the last record.";
+        System.out.println("Records read back correctly.");
+    }
+
+    /**
+     * Writes half a record past the committed end (as a crash mid-write would), reopens the log,
+     * and checks the partial record is ignored and then overwritten by the next game.
+     */
+    public static void testTornRecordIsIgnored(File file) throws IOException {
+        System.out.println("Testing recovery from a torn record...");
+
+        long committed;
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.seek(GameLog.COMMITTED_OFFSET);
+            committed = raw.readLong();
+            raw.seek(committed);
+            raw.writeInt(500);   // Length of a record that never finished
+            raw.writeLong(999);
+        }
+
+        GameLog log = new GameLog(file);
+        assert log.committedEnd() == committed : "Torn record was treated as committed.";
+        GameRecorder recorder = new GameRecorder(log);
+        recorder.beginGame(4242, 4, 5);
+        recorder.endGame(0, GameEngine.START_SCORE, true);
+        log.close();
+
+        ByteBuffer data = readCommitted(file);
+        data.position((int) committed - GameLog.HEADER_SIZE);
+        data.getInt();
+        assert data.getLong() == 4242 : "New game did not replace the torn record.";
+        System.out.println("Torn record ignored.");
+    }
+
+    /**
+     * Fills more than one mapped window without forcing, and checks the header's committed offset
+     * only moves once force() has written the records out.
+     */
+    public static void testHeaderFollowsForce() throws IOException {
+        System.out.println("Testing the header waits for force...");
+
+        File file = File.createTempFile("mindmatch-log-force", ".log");
+        file.delete();
+        file.deleteOnExit();
+        GameLog log = new GameLog(file);
+        ByteBuffer record = ByteBuffer.allocate(64 * 1024);
+        record.putInt(0, record.capacity());
+        int records = GameLog.REGION_SIZE / record.capacity() + 2; // Crosses into a second window
+        for (int i = 0; i < records; i++) {
+            log.append(record.duplicate());
+        }
+        long end = GameLog.HEADER_SIZE + (long) records * record.capacity();
+        assert log.committedEnd() == end : "Appended end is " + log.committedEnd();
+        assert headerCommitted(file) == GameLog.HEADER_SIZE : "Header moved before the records were forced.";
+
+        log.force();
+        assert headerCommitted(file) == end : "Header not moved by force: " + headerCommitted(file);
+        log.close();
+        GameLog reopened = new GameLog(file);
+        assert reopened.committedEnd() == end : "Reopened log lost forced records.";
+        reopened.close();
+        System.out.println("Header only covers forced records.");
+    }
+
+    private static long headerCommitted(File file) throws IOException {
+        try (RandomAccessFile raw = new RandomAccessFile(file, "r")) {
+            raw.seek(GameLog.COMMITTED_OFFSET);
+            return raw.readLong();
+        }
+    }
+
+    /**
+     * Measures the cost of recording a flip, which runs inside handleCardClick.
+     */
+    public static void testFlipCost() throws IOException {
+        System.out.println("Testing flip recording cost...");
+
+        File file = File.createTempFile("mindmatch-log-cost", ".log");
+        file.delete();
+        file.deleteOnExit();
+        GameLog log = new GameLog(file);
+        GameRecorder recorder = new GameRecorder(log);
+
+        int games = 20_000;
+        int flipsPerGame = 30;
+        long flipNanos = 0;
+        long endNanos = 0;
+        for (int game = 0; game < games; game++) {
+            recorder.beginGame(game, 4, 5);
+            long start = System.nanoTime();
+            for (int flip = 0; flip < flipsPerGame; flip++) {
+                recorder.flip(flip % 20, GameEngine.FIRST);
+            }
+            long middle = System.nanoTime();
+            recorder.endGame(5, 95, true);
+            flipNanos += middle - start;
+            endNanos += System.nanoTime() - middle;
+        }
+        log.close();
+
+        System.out.println("Average per flip: " + flipNanos / (games * flipsPerGame) + " ns");
+        System.out.println("Average per finished game (append to log): " + endNanos / games + " ns");
+        System.out.println("Log size: " + file.length() / 1024 + " KB for " + games + " games");
+    }
+
+    /**
+     * Reads every committed record of a log file.
+     */
+    private static ByteBuffer readCommitted(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(GameLog.HEADER_SIZE);
+            channel.read(header, 0);
+            assert header.getInt(0) == GameLog.MAGIC : "Bad magic number.";
+            long committed = header.getLong(GameLog.COMMITTED_OFFSET);
+            ByteBuffer data = ByteBuffer.allocate((int) committed - GameLog.HEADER_SIZE);
+            channel.read(data, GameLog.HEADER_SIZE);
+            data.flip();
+            return data;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * GameMetrics Class
+ * -
+ * Description: Counts flips, matches, errors and restarts and times the click path of the desktop game:
+ * - clickToPaint: from the mouse press (or the tile click) until the flipped tile has been painted.
+ * - clickHandling: time spent in MatchCards.handleCardClick, including the switch to the results view.
+ * - playToBoard: from pressing Play (or opening a game directly) until the cards are painted.
+ * The process-wide instance is registered with the platform MBean server as mindmatch:type=GameMetrics,
+ * with the histograms as mindmatch:type=Latency,name=ClickToPaint, HandleCardClick and PlayToBoard, so they can
+ * be watched with JConsole, VisualVM or any JMX client while the game runs.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GameMetrics implements GameMetricsMBean {
+
+    // JMX domain of every MindMatch MBean
+    static final String DOMAIN = "mindmatch";
+
+    private static GameMetrics shared;
+
+    final LatencyHistogram clickToPaint = new LatencyHistogram();
+    final LatencyHistogram clickHandling = new LatencyHistogram();
+    final LatencyHistogram playToBoard = new LatencyHistogram();
+    private final LongAdder flips = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder restarts = new LongAdder();
+
+    /**
+     * Returns the metrics shared by every game in this process, registering them with the platform MBean
+     * server on first use.
+     *
+     * @return The shared metrics, which still count if registration failed.
+     */
+    public static synchronized GameMetrics shared() {
+        if (shared == null) {
+            shared = new GameMetrics();
+            try {
+                shared.register(ManagementFactory.getPlatformMBeanServer());
+            } catch (JMException e) {
+                System.err.println("Game metrics not published over JMX: " + e.getMessage());
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Registers the counters and the histograms with an MBean server.
+     *
+     * @param server The MBean server.
+     * @throws JMException If a name is already registered or the server refuses an MBean.
+     */
+    public void register(MBeanServer server) throws JMException {
+        server.registerMBean(this, new ObjectName(DOMAIN + ":type=GameMetrics"));
+        server.registerMBean(clickToPaint, new ObjectName(DOMAIN + ":type=Latency,name=ClickToPaint"));
+        server.registerMBean(clickHandling, new ObjectName(DOMAIN + ":type=Latency,name=HandleCardClick"));
+        server.registerMBean(playToBoard, new ObjectName(DOMAIN + ":type=Latency,name=PlayToBoard"));
+    }
+
+    /**
+     * Counts the outcome of a flip.
+     *
+     * @param result The GameEngine.flip result; ignored clicks are not counted.
+     */
+    public void recordFlip(int result) {
+        if (result == GameEngine.IGNORED) return;
+        flips.increment();
+        if (result == GameEngine.MATCH || result == GameEngine.GAME_OVER) {
+            matches.increment();
+        } else if (result == GameEngine.MISMATCH) {
+            errors.increment();
+        }
+    }
+
+    public void recordRestart() {
+        restarts.increment();
+    }
+
+    @Override
+    public long getFlips() {
+        return flips.sum();
+    }
+
+    @Override
+    public long getMatches() {
+        return matches.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRestarts() {
+        return restarts.sum();
+    }
+
+    @Override
+    public void reset() {
+        flips.reset();
+        matches.reset();
+        errors.reset();
+        restarts.reset();
+        clickToPaint.reset();
+        clickHandling.reset();
+        playToBoard.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "Flips: " + getFlips() + ", matches: " + getMatches() + ", errors: " + getErrors()
+                + ", restarts: " + getRestarts() + "\nClick to paint: " + clickToPaint
+                + "\nhandleCardClick: " + clickHandling + "\nPlay to board: " + playToBoard;
+    }
+}
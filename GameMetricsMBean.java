@@ -0,0 +1,26 @@
+/**
+ * GameMetricsMBean Interface
+ * -
+ * Description: JMX view of the GameMetrics counters, visible in JConsole or VisualVM as
+ * mindmatch:type=GameMetrics. The latency histograms are published next to it under mindmatch/Latency.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+public interface GameMetricsMBean {
+
+    long getFlips();
+
+    long getMatches();
+
+    long getErrors();
+
+    long getRestarts();
+
+    /**
+     * Clears the counters and the latency histograms.
+     */
+    void reset();
+}
@@ -0,0 +1,188 @@
+/**
+ * GameMetricsTester Class
+ * -
+ * Description: Tests the LatencyHistogram percentiles against exact ones, concurrent recording, the JMX
+ * attributes of GameMetrics and the click-to-paint timing of the BoardPanel, and reports the cost of
+ * recording one latency. Runs without a display (java -ea GameMetricsTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class GameMetricsTester {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("Starting Game Metrics Tester...");
+
+        testPercentiles();
+        testConcurrentRecording();
+        testMBeans();
+        testClickToPaint();
+        measureRecordCost();
+
+        System.out.println("All game metrics tests completed successfully.");
+    }
+
+    /**
+     * Compares histogram percentiles with exact percentiles of the same values.
+     */
+    public static void testPercentiles() {
+        System.out.println("Testing percentiles...");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assert histogram.percentile(99) == 0 : "Empty histogram has a percentile.";
+
+        SplittableRandom random = new SplittableRandom(7);
+        long[] values = new long[200_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble(0, 20)); // 1 ns to about 0.5 s, log-uniform
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[]{1, 50, 90, 99, 99.9, 100}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long reported = histogram.percentile(p);
+            assert reported >= exact : "p" + p + " reported " + reported + " below exact " + exact;
+            assert reported <= exact + exact / LatencyHistogram.SUB_BUCKETS
+                    : "p" + p + " reported " + reported + ", exact " + exact;
+        }
+        assert histogram.percentile(100) == values[values.length - 1] : "Max is not exact.";
+        assert histogram.getCount() == values.length : "Count is " + histogram.getCount();
+
+        for (long value = 0; value < 1_000_000; value += 997) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assert LatencyHistogram.highestValueIn(bucket) >= value : "Value " + value + " above its bucket.";
+            assert bucket == 0 || LatencyHistogram.highestValueIn(bucket - 1) < value : "Value " + value + " in a later bucket.";
+        }
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+        assert histogram.getCount() == values.length + 2 : "Out of range values were not counted.";
+        histogram.reset();
+        assert histogram.getCount() == 0 && histogram.percentile(50) == 0 : "Reset did not clear the histogram.";
+    }
+
+    /**
+     * Records from several threads at once and checks nothing is lost.
+     */
+    public static void testConcurrentRecording() throws InterruptedException {
+        System.out.println("Testing concurrent recording...");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threads = 4;
+        int perThread = 250_000;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    histogram.record(1000 + i % 1000);
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assert histogram.getCount() == (long) threads * perThread : "Lost values: " + histogram.getCount();
+        assert histogram.getMaxMicros() == 1.999 : "Max is " + histogram.getMaxMicros();
+    }
+
+    /**
+     * Reads the counters and a histogram back through an MBean server, as JConsole would.
+     */
+    public static void testMBeans() throws Exception {
+        System.out.println("Testing MBeans...");
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        GameMetrics metrics = new GameMetrics();
+        metrics.register(server);
+
+        metrics.recordFlip(GameEngine.FIRST);
+        metrics.recordFlip(GameEngine.MISMATCH);
+        metrics.recordFlip(GameEngine.FIRST);
+        metrics.recordFlip(GameEngine.MATCH);
+        metrics.recordFlip(GameEngine.FIRST);
+        metrics.recordFlip(GameEngine.GAME_OVER);
+        metrics.recordFlip(GameEngine.IGNORED);
+        metrics.recordRestart();
+        metrics.clickToPaint.record(2_000_000);
+
+        ObjectName counters = new ObjectName("mindmatch:type=GameMetrics");
+        assert (Long) server.getAttribute(counters, "Flips") == 6 : "Flips over JMX.";
+        assert (Long) server.getAttribute(counters, "Matches") == 2 : "Matches over JMX.";
+        assert (Long) server.getAttribute(counters, "Errors") == 1 : "Errors over JMX.";
+        assert (Long) server.getAttribute(counters, "Restarts") == 1 : "Restarts over JMX.";
+
+        ObjectName clickToPaint = new ObjectName("mindmatch:type=Latency,name=ClickToPaint");
+        assert (Long) server.getAttribute(clickToPaint, "Count") == 1 : "Histogram count over JMX.";
+        assert (Double) server.getAttribute(clickToPaint, "MaxMicros") == 2000.0 : "Histogram max over JMX.";
+        assert server.isRegistered(new ObjectName("mindmatch:type=Latency,name=HandleCardClick")) : "Handling histogram missing.";
+
+        server.invoke(counters, "reset", null, null);
+        assert metrics.getFlips() == 0 && metrics.clickToPaint.getCount() == 0 : "Reset over JMX did not clear.";
+
+        GameMetrics shared = GameMetrics.shared();
+        assert shared == GameMetrics.shared() : "Shared metrics are not shared.";
+        assert java.lang.management.ManagementFactory.getPlatformMBeanServer().isRegistered(counters) : "Shared metrics not on the platform server.";
+    }
+
+    /**
+     * Clicks a tile and checks the delay is recorded only once the tile itself is painted.
+     */
+    public static void testClickToPaint() {
+        System.out.println("Testing click-to-paint timing...");
+
+        GameEngine engine = new GameEngine(10);
+        BoardPanel board = new BoardPanel(engine, 4, 5, 90, 128);
+        ImageIcon blank = new ImageIcon(new BufferedImage(90, 128, BufferedImage.TYPE_INT_RGB));
+        ImageIcon[] faces = new ImageIcon[10];
+        Arrays.fill(faces, blank);
+        board.setIcons(faces, blank);
+        board.setSize(board.getPreferredSize());
+        LatencyHistogram histogram = new LatencyHistogram();
+        board.setTileClickListener(position -> board.timeNextPaint(position, board.clickNanos, histogram));
+
+        board.clickTile(7); // Row 1, column 2
+        BufferedImage screen = new BufferedImage(board.getWidth(), board.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics g = screen.createGraphics();
+        g.setClip(0, 0, 90, 128); // Tile 0 only
+        board.paint(g);
+        assert histogram.getCount() == 0 : "Recorded before the clicked tile was painted.";
+
+        g.setClip(2 * 90, 128, 90, 128); // Tile 7
+        board.paint(g);
+        board.paint(g);
+        g.dispose();
+        assert histogram.getCount() == 1 : "Clicked tile painted, recorded " + histogram.getCount() + " times.";
+        System.out.println("Click to paint: " + histogram);
+    }
+
+    /**
+     * Reports the time taken to record one latency on a single thread.
+     */
+    public static void measureRecordCost() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int values = 10_000_000;
+        for (int i = 0; i < values; i++) { // Warm up
+            histogram.record(i & 0xFFFFF);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < values; i++) {
+            histogram.record(i & 0xFFFFF);
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.printf("Record: %.1f ns per latency%n", (double) elapsed / values);
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * GamePreloader Class
+ * -
+ * Description: Builds the next game while the intro screen is showing, so pressing Play only has to put a
+ * finished window on screen. The game is constructed hidden on the EDT once the menu is up (deck shuffled,
+ * board component built, leaderboard opening), and the card back and every face are decoded and scaled on
+ * the AssetLoader workers. Nothing is shown, recorded or timed until take() is called.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+
+public class GamePreloader {
+
+    final int rows;
+    final int columns;
+    final Theme theme;
+    final CompletableFuture<MatchCards> game = new CompletableFuture<>(); // Completed on the EDT once built
+    private boolean taken = false;
+
+    /**
+     * Constructor for GamePreloader. Starts building the game after the events already queued, so the
+     * menu is painted first.
+     *
+     * @param rows    The number of card rows.
+     * @param columns The number of card columns.
+     * @param theme   The card faces and back.
+     */
+    public GamePreloader(int rows, int columns, Theme theme) {
+        this.rows = rows;
+        this.columns = columns;
+        this.theme = theme;
+        SwingUtilities.invokeLater(() -> {
+            if (taken) return;
+            try {
+                game.complete(new MatchCards(rows, columns, theme, false));
+            } catch (RuntimeException e) {
+                game.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Shows the preloaded game. Runs on the EDT.
+     *
+     * @param playNanos When Play was pressed (System.nanoTime).
+     * @return The game, now showing, or null if it has not been built yet.
+     */
+    public MatchCards take(long playNanos) {
+        taken = true;
+        MatchCards preloaded = built();
+        if (preloaded == null) return null;
+        preloaded.show(playNanos);
+        return preloaded;
+    }
+
+    /**
+     * Throws away the preloaded game, for example when another board size or theme is chosen. Runs on
+     * the EDT.
+     */
+    public void discard() {
+        if (taken) return;
+        taken = true;
+        game.thenAccept(MatchCards::dispose);
+    }
+
+    /**
+     * Returns true once the game is built and every card image is on its board.
+     *
+     * @return True if take() would show a complete board.
+     */
+    public boolean isReady() {
+        MatchCards preloaded = built();
+        return preloaded != null && preloaded.ready.isDone();
+    }
+
+    private MatchCards built() {
+        return game.isDone() && !game.isCompletedExceptionally() ? game.join() : null;
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * GameRecorder Class
+ * -
+ * Description: Records one game at a time for the GameLog. Flips are written into a reusable in-memory
+ * buffer as they happen (a few primitive writes, no allocation), and the finished game is handed to the
+ * log as a single record when it ends. This batching keeps file I/O out of the click path entirely.
+ * -
+ * Record layout (big-endian):
+ * int length, long seed, short rows, short columns, long start time (epoch millis), int flip count,
+ * per flip: short position, byte result (GameEngine constant), long nanoseconds since the game started,
+ * then int errorCount, int score, byte completed (1 if all pairs were matched, 0 if abandoned)
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.nio.ByteBuffer;
+
+public class GameRecorder {
+
+    // Record layout
+    static final int FLIP_COUNT_OFFSET = 24;
+    static final int HEADER_BYTES = 28;
+    static final int FLIP_BYTES = 11;
+    static final int TRAILER_BYTES = 9;
+
+    final GameLog log;
+    private ByteBuffer buffer = ByteBuffer.allocate(4096);
+    private long startNanos;
+    private int flipCount;
+    private boolean recording = false;
+
+    /**
+     * Constructor for GameRecorder.
+     *
+     * @param log The log finished games are appended to, or null to record nothing.
+     */
+    public GameRecorder(GameLog log) {
+        this.log = log;
+    }
+
+    /**
+     * Starts recording a new game.
+     *
+     * @param seed    The seed the board was dealt with (GameEngine.seed).
+     * @param rows    The number of tile rows.
+     * @param columns The number of tile columns.
+     */
+    public void beginGame(long seed, int rows, int columns) {
+        if (log == null) return;
+        startNanos = System.nanoTime();
+        flipCount = 0;
+        recording = true;
+        buffer.clear();
+        buffer.putInt(0); // Length, filled in by endGame
+        buffer.putLong(seed);
+        buffer.putShort((short) rows);
+        buffer.putShort((short) columns);
+        buffer.putLong(System.currentTimeMillis());
+        buffer.putInt(0); // Flip count, filled in by endGame
+    }
+
+    /**
+     * Records a flip that changed the board.
+     *
+     * @param position The board position flipped.
+     * @param result   The engine's result for the flip.
+     */
+    public void flip(int position, int result) {
+        if (!recording) return;
+        if (buffer.remaining() < FLIP_BYTES + TRAILER_BYTES) {
+            grow();
+        }
+        buffer.putShort((short) position);
+        buffer.put((byte) result);
+        buffer.putLong(System.nanoTime() - startNanos);
+        flipCount++;
+    }
+
+    /**
+     * Finishes the current game and appends it to the log. Does nothing if no game is being recorded.
+     *
+     * @param errorCount The final error count.
+     * @param score      The final score.
+     * @param completed  True if every pair was matched, false if the game was abandoned.
+     */
+    public void endGame(int errorCount, int score, boolean completed) {
+        if (!recording) return;
+        recording = false;
+        buffer.putInt(errorCount);
+        buffer.putInt(score);
+        buffer.put((byte) (completed ? 1 : 0));
+        buffer.putInt(0, buffer.position());
+        buffer.putInt(FLIP_COUNT_OFFSET, flipCount);
+        buffer.flip();
+        log.append(buffer);
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    private void grow() {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() * 2);
+        buffer.flip();
+        larger.put(buffer);
+        buffer = larger;
+    }
+}
@@ -0,0 +1,229 @@
+/**
+ * GameReplayer Class
+ * -
+ * Description: Replays the games recorded in a GameLog and scores them again with a ScoringRule. The
+ * file is never loaded into memory: a first pass hops from record to record using their lengths and
+ * cuts the log into splits of a few megabytes at record boundaries, then the splits are memory-mapped
+ * and replayed in parallel on all cores. Each game is dealt again from its seed and its flips are driven
+ * through GameEngine, so the replay follows the real game rules and detects records that no longer
+ * match them.
+ * Usage: java GameReplayer [log file] [current|timed]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Locale;
+
+public class GameReplayer {
+
+    // Target size of each parallel split
+    static final long SPLIT_BYTES = 8L * 1024 * 1024;
+
+    // Read window used by the split pass
+    static final int SCAN_WINDOW = 64 * 1024 * 1024;
+
+    /**
+     * Called for every replayed game, from worker threads, so implementations must be thread-safe.
+     */
+    public interface Listener {
+        void gameReplayed(long seed, int recordedScore, int newScore, boolean completed);
+    }
+
+    /**
+     * Totals over all replayed games.
+     */
+    public static class Summary {
+        long games = 0;
+        long completedGames = 0;
+        long divergedGames = 0;        // Records whose flips no longer follow the rules
+        long recordedScoreTotal = 0;   // Over completed games
+        long newScoreTotal = 0;        // Over completed games
+        long bytes = 0;
+        double seconds;
+
+        Summary merge(Summary other) {
+            games += other.games;
+            completedGames += other.completedGames;
+            divergedGames += other.divergedGames;
+            recordedScoreTotal += other.recordedScoreTotal;
+            newScoreTotal += other.newScoreTotal;
+            bytes += other.bytes;
+            return this;
+        }
+
+        public double gamesPerSecond() {
+            return games / seconds;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%d games (%d completed, %d diverged), mean score %.3f -> %.3f, "
+                            + "%.1f MB in %.2f s, %.0f games/s", games, completedGames, divergedGames,
+                    completedGames == 0 ? 0.0 : recordedScoreTotal / (double) completedGames,
+                    completedGames == 0 ? 0.0 : newScoreTotal / (double) completedGames,
+                    bytes / 1048576.0, seconds, gamesPerSecond());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        File file = new File(args.length > 0 ? args[0] : System.getProperty("mindmatch.gameLog", "mindmatch-games.log"));
+        ScoringRule rule = args.length > 1 && args[1].equals("timed") ? ScoringRule.TIMED : ScoringRule.CURRENT;
+
+        System.out.println("Replaying " + file + "...");
+        Summary summary = replay(file, rule, null);
+        System.out.println(summary);
+    }
+
+    /**
+     * Replays every committed game in a log in parallel.
+     *
+     * @param file     The log file.
+     * @param rule     The rule to score completed games with.
+     * @param listener Receives each game's scores, or null.
+     * @return The totals.
+     * @throws IOException If the log cannot be read.
+     */
+    public static Summary replay(File file, ScoringRule rule, Listener listener) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long[] splits = findSplits(channel);
+            Summary summary = java.util.stream.IntStream.range(0, splits.length - 1).parallel()
+                    .mapToObj(i -> replaySplit(channel, splits[i], splits[i + 1], rule, listener))
+                    .reduce(Summary::merge)
+                    .orElseGet(Summary::new);
+            summary.seconds = (System.nanoTime() - start) / 1e9;
+            return summary;
+        }
+    }
+
+    /**
+     * Walks the record lengths once and returns split offsets at record boundaries, from the first
+     * record to the committed end.
+     */
+    static long[] findSplits(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(GameLog.HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != GameLog.MAGIC) {
+            throw new IOException("Not a game log");
+        }
+        long end = header.getLong(GameLog.COMMITTED_OFFSET);
+
+        ArrayList<Long> splits = new ArrayList<>();
+        splits.add((long) GameLog.HEADER_SIZE);
+        long offset = GameLog.HEADER_SIZE;
+        long lastSplit = offset;
+        MappedByteBuffer window = null;
+        long windowStart = 0;
+        while (offset < end) {
+            if (window == null || offset + 4 > windowStart + window.capacity()) {
+                windowStart = offset;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(SCAN_WINDOW, end - offset));
+            }
+            int length = window.getInt((int) (offset - windowStart));
+            if (length <= 0) {
+                throw new IOException("Corrupt record at offset " + offset);
+            }
+            offset += length;
+            if (offset - lastSplit >= SPLIT_BYTES && offset < end) {
+                splits.add(offset);
+                lastSplit = offset;
+            }
+        }
+        splits.add(end);
+
+        long[] result = new long[splits.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = splits.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Replays the records between two record boundaries on the calling thread.
+     */
+    static Summary replaySplit(FileChannel channel, long from, long to, ScoringRule rule, Listener listener) {
+        Summary summary = new Summary();
+        summary.bytes = to - from;
+        if (to <= from) return summary;
+
+        MappedByteBuffer data;
+        try {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new java.io.UncheckedIOException(e);
+        }
+
+        HashMap<Integer, GameEngine> engines = new HashMap<>(); // One engine per board size, reused
+        while (data.hasRemaining()) {
+            int recordStart = data.position();
+            int length = data.getInt();
+            long seed = data.getLong();
+            int rows = data.getShort();
+            int columns = data.getShort();
+            data.getLong(); // Start time
+            int flips = data.getInt();
+
+            GameEngine engine = engines.computeIfAbsent(rows * columns / 2, GameEngine::new);
+            boolean diverged = !replayFlips(engine, seed, data, flips);
+            long durationNanos = flips == 0 ? 0 : data.getLong(data.position() - 8);
+            int recordedErrors = data.getInt();
+            int recordedScore = data.getInt();
+            boolean completed = data.get() == 1;
+            data.position(recordStart + length);
+
+            summary.games++;
+            if (diverged || engine.errorCount != recordedErrors) {
+                summary.divergedGames++;
+                continue;
+            }
+            if (completed) {
+                int newScore = rule.score(engine.errorCount, engine.pairCount, durationNanos);
+                summary.completedGames++;
+                summary.recordedScoreTotal += recordedScore;
+                summary.newScoreTotal += newScore;
+                if (listener != null) {
+                    listener.gameReplayed(seed, recordedScore, newScore, true);
+                }
+            } else if (listener != null) {
+                listener.gameReplayed(seed, recordedScore, recordedScore, false);
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Deals the game again and drives its recorded flips through the engine.
+     *
+     * @return False if any flip's result differs from the recorded one.
+     */
+    static boolean replayFlips(GameEngine engine, long seed, ByteBuffer data, int flips) {
+        engine.reset();
+        engine.deal(seed);
+        engine.resolve(); // End the face-up preview
+        boolean matches = true;
+        for (int i = 0; i < flips; i++) {
+            int position = data.getShort();
+            int recordedResult = data.get();
+            data.position(data.position() + 8); // Flip time
+            if (!matches) continue;
+
+            int result = position >= 0 && position < engine.size() ? engine.flip(position) : GameEngine.IGNORED;
+            if (result != recordedResult) {
+                matches = false;
+            } else if (result == GameEngine.MISMATCH) {
+                engine.resolve(); // Hide delay expired before the next flip
+            }
+        }
+        return matches;
+    }
+}
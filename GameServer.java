@@ -0,0 +1,252 @@
+/**
+ * GameServer Class
+ * -
+ * Description: Hosts Mind Match games for remote players over a simple line-based TCP protocol. Every
+ * connection gets its own thread and plays one PackedSession at a time, with the same rules as MatchCards.
+ * On Java 21 and later each connection runs on a virtual thread, so thousands of idle players cost
+ * almost nothing; on older runtimes a platform thread per connection is used instead.
+ * All sessions share one HashedWheelScheduler for their hide delays, so a mismatched pair is turned
+ * face-down on time even if the player sends nothing else, without a timer per game.
+ * -
+ * Protocol (one command per line, one reply line per command):
+ * NEW [rows columns [seed]]  ->  OK <rows> <columns> <seed>   (cards face-up until the hide delay passes)
+ * FLIP <position>            ->  FIRST <cardId> | MATCH <cardId> | MISMATCH <cardId> <errors>
+ *                                | OVER <cardId> <errors> <score> | IGNORED
+ * STATE                      ->  STATE <ready 0/1> <errors> <score> <matchedPairs>
+ * QUIT                       ->  BYE
+ * Errors are answered with ERR <message>.
+ * Usage: java App --server [port] [hide delay millis]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class GameServer {
+
+    public static final int DEFAULT_PORT = 4747;
+    public static final int MAX_TILES = 10_000;
+
+    // Wait after a failed accept (e.g., out of file descriptors), doubled on each failure in a row
+    static final long ACCEPT_BACKOFF_MIN_MILLIS = 10;
+    static final long ACCEPT_BACKOFF_MAX_MILLIS = 1000;
+
+    final ServerSocket serverSocket;
+    final int hideDelayMillis;
+    final ExecutorService connections = newThreadPerTaskExecutor();
+    final AtomicInteger activeSessions = new AtomicInteger();
+    final HashedWheelScheduler hideScheduler = new HashedWheelScheduler();
+
+    /**
+     * Constructor for GameServer. Binds the port but does not accept connections until start().
+     *
+     * @param port            The TCP port to listen on (0 for any free port).
+     * @param hideDelayMillis How long cards stay face-up before being hidden.
+     * @param backlog         The maximum number of connections waiting to be accepted.
+     * @throws IOException If the port cannot be bound.
+     */
+    public GameServer(int port, int hideDelayMillis, int backlog) throws IOException {
+        this.hideDelayMillis = hideDelayMillis;
+        serverSocket = new ServerSocket(port, backlog);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int hideDelay = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        GameServer server = new GameServer(port, hideDelay, 1024);
+        System.out.println("Mind Match server listening on port " + server.getPort()
+                + (virtualThreadsAvailable() ? " (virtual threads)" : " (platform threads)"));
+        server.start().join();
+    }
+
+    /**
+     * Starts accepting connections on a background thread.
+     *
+     * @return The accepting thread.
+     */
+    public Thread start() {
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-acceptor");
+        acceptor.start();
+        return acceptor;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting connections and closes the listening socket.
+     */
+    public void stop() {
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Already closed
+        }
+        connections.shutdown();
+        hideScheduler.stop();
+    }
+
+    private void acceptLoop() {
+        long backoffMillis = ACCEPT_BACKOFF_MIN_MILLIS;
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                backoffMillis = ACCEPT_BACKOFF_MIN_MILLIS;
+                socket.setTcpNoDelay(true);
+                connections.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) break;
+                // Retrying at once would spin while the failure lasts, wait for connections to close first
+                System.err.println("Accept failed, retrying in " + backoffMillis + " ms: " + e.getMessage());
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, ACCEPT_BACKOFF_MAX_MILLIS);
+            }
+        }
+    }
+
+    /**
+     * Runs one connection until the player quits or disconnects.
+     */
+    void serve(Socket socket) {
+        SplittableRandom seeds = new SplittableRandom();
+        PackedSession session = null;
+        try (Socket s = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(s.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.trim().split(" +");
+                String command = parts[0].toUpperCase();
+                try {
+                    if (command.equals("NEW")) {
+                        int rows = parts.length > 2 ? Integer.parseInt(parts[1]) : 4;
+                        int columns = parts.length > 2 ? Integer.parseInt(parts[2]) : 5;
+                        long seed = parts.length > 3 ? Long.parseLong(parts[3]) : seeds.nextLong();
+                        long tiles = (long) rows * columns; // Long, so huge sizes cannot wrap around
+                        if (rows <= 0 || columns <= 0 || tiles > MAX_TILES || tiles % 2 != 0) {
+                            out.println("ERR board must have an even number of tiles, at most " + MAX_TILES);
+                            continue;
+                        }
+                        if (session == null) activeSessions.incrementAndGet();
+                        session = new PackedSession(rows, columns, seed, hideDelayMillis);
+                        scheduleHide(session);
+                        out.println("OK " + rows + " " + columns + " " + seed);
+                    } else if (command.equals("FLIP")) {
+                        if (session == null) {
+                            out.println("ERR no game, send NEW first");
+                            continue;
+                        }
+                        String reply = describeFlip(session, Integer.parseInt(parts[1]));
+                        if (reply.startsWith("MISMATCH")) scheduleHide(session);
+                        out.println(reply);
+                    } else if (command.equals("STATE")) {
+                        if (session == null) {
+                            out.println("ERR no game, send NEW first");
+                            continue;
+                        }
+                        out.println(describeState(session));
+                    } else if (command.equals("QUIT")) {
+                        out.println("BYE");
+                        break;
+                    } else {
+                        out.println("ERR unknown command " + command);
+                    }
+                } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                    out.println("ERR bad arguments: " + line);
+                } catch (RuntimeException e) {
+                    // A bad command must not end the connection
+                    out.println("ERR " + e);
+                }
+            }
+        } catch (IOException e) {
+            // Player disconnected
+        } finally {
+            if (session != null) activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Applies a session's pending hide once its delay has passed. The session also applies it lazily
+     * on the next command, whichever comes first; the later one does nothing.
+     */
+    private void scheduleHide(PackedSession session) {
+        hideScheduler.schedule(() -> session.resolveIfDue(System.nanoTime()), hideDelayMillis);
+    }
+
+    private static String describeFlip(PackedSession session, int position) {
+        synchronized (session) {
+            int result = session.flip(position);
+            switch (result) {
+                case GameEngine.FIRST:
+                    return "FIRST " + session.cardAt(position);
+                case GameEngine.MATCH:
+                    return "MATCH " + session.cardAt(position);
+                case GameEngine.MISMATCH:
+                    return "MISMATCH " + session.cardAt(position) + " " + session.errorCount();
+                case GameEngine.GAME_OVER:
+                    return "OVER " + session.cardAt(position) + " " + session.errorCount() + " " + session.score();
+                default:
+                    return "IGNORED";
+            }
+        }
+    }
+
+    private static String describeState(PackedSession session) {
+        synchronized (session) {
+            session.resolveIfDue(System.nanoTime());
+            return "STATE " + (session.isReady() ? 1 : 0) + " " + session.errorCount() + " " + session.score() + " "
+                    + session.matchedPairs();
+        }
+    }
+
+    /**
+     * Checks whether the runtime supports virtual threads (Java 21 and later).
+     */
+    static boolean virtualThreadsAvailable() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates an executor that runs every task on its own new thread: a virtual thread when the
+     * runtime supports them, otherwise a daemon platform thread.
+     *
+     * @return The executor.
+     */
+    static ExecutorService newThreadPerTaskExecutor() {
+        if (virtualThreadsAvailable()) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall back to platform threads below
+            }
+        }
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(null, runnable, "game-connection", 256 * 1024);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
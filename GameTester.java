@@ -23,8 +23,13 @@ public class GameTester {
         testIntroGUI();
         System.out.println("All Tests for IntroGUI completed.");
 
+        // Test a game preloaded while the menu is showing
+        testPreloadedGame();
+
         // Test MatchCards functionality
         MatchCards matchCards = new MatchCards();
+        matchCards.ready.join(); // Wait for the card images to load
+        System.out.println("Cards ready after " + matchCards.interactiveNanos / 1_000_000 + " ms");
         testMatchCards(matchCards);
 
         // Perform stress testing
@@ -63,9 +68,43 @@ public class GameTester {
         System.out.println("Quit button works as expected.");
     }
 
+    /**
+     * Tests a game built by the GamePreloader: nothing starts while it is hidden, and once taken it is
+     * showing with its cards ready. Reports the Play-to-board time.
+     */
+    public static void testPreloadedGame() {
+        System.out.println("Testing preloaded game...");
+
+        GamePreloader preloader = new GamePreloader(4, 5, ThemeRegistry.shared().current());
+        preloader.game.thenCompose(game -> game.ready)
+                .orTimeout(10, java.util.concurrent.TimeUnit.SECONDS).join(); // Built and every face loaded
+        assert preloader.isReady() : "Preloaded game not ready after 10 s.";
+        MatchCards hidden = preloader.game.join();
+        assert !hidden.shown && !hidden.started && hidden.window.game != hidden : "Preloaded game started while hidden.";
+
+        MatchCards[] taken = new MatchCards[1];
+        long timedGames = hidden.metrics.playToBoard.getCount();
+        long playNanos = System.nanoTime();
+        try {
+            SwingUtilities.invokeAndWait(() -> taken[0] = preloader.take(playNanos));
+        } catch (Exception e) {
+            throw new AssertionError("Taking the preloaded game failed", e);
+        }
+        assert taken[0] == hidden && hidden.window.game == hidden && hidden.started : "Preloaded game not started when taken.";
+        assert hidden.window.currentView.equals(AppWindow.BOARD_VIEW) : "Board view not shown.";
+
+        // Play-to-board is recorded when the first card is painted
+        long deadline = System.currentTimeMillis() + 2000;
+        while (hidden.metrics.playToBoard.getCount() == timedGames && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assert hidden.metrics.playToBoard.getCount() > timedGames : "Board was not painted after Play.";
+        System.out.println("Play to board: " + hidden.metrics.playToBoard);
+    }
+
     /**
      * Tests the MatchCards class, including card flipping, restart functionality,
-     * and the game-over popup behavior.
+     * and the game-over results view.
      *
      * @param matchCards The MatchCards instance to test.
      */
@@ -74,17 +113,16 @@ public class GameTester {
 
         // Test card flipping
         System.out.println("Testing card flipping...");
-        if (!matchCards.board.isEmpty()) {
-            JButton firstCard = matchCards.board.get(0);
-            JButton secondCard = matchCards.board.get(1);
+        if (matchCards.engine.size() > 1) {
+            BoardPanel board = matchCards.boardPanel;
 
             // Simulate flipping the first card
-            simulateButtonClick(firstCard, "Flip first card");
-            assert firstCard.getIcon() != matchCards.cardBackImageIcon : "First card did not flip correctly.";
+            simulateTileClick(board, 0, "Flip first card");
+            assert board.iconAt(0) != matchCards.cardBackImageIcon : "First card did not flip correctly.";
 
             // Simulate flipping the second card
-            simulateButtonClick(secondCard, "Flip second card");
-            assert secondCard.getIcon() != matchCards.cardBackImageIcon : "Second card did not flip correctly.";
+            simulateTileClick(board, 1, "Flip second card");
+            assert board.iconAt(1) != matchCards.cardBackImageIcon : "Second card did not flip correctly.";
 
             System.out.println("Card flipping works as expected.");
         }
@@ -92,35 +130,40 @@ public class GameTester {
         // Test Restart button
         System.out.println("Testing Restart button...");
         simulateButtonClick(matchCards.restartButton, "Restart Game");
-        assert matchCards.errorCount == 0 : "Error count did not reset after restart.";
-        assert matchCards.board.stream().allMatch(b -> b.getIcon() == matchCards.cardBackImageIcon)
-                : "Not all cards were flipped back after restart.";
+        assert matchCards.engine.errorCount == 0 : "Error count did not reset after restart.";
+        for (int i = 0; i < matchCards.engine.size(); i++) {
+            assert matchCards.boardPanel.iconAt(i) == matchCards.cardBackImageIcon
+                    : "Not all cards were flipped back after restart.";
+        }
         System.out.println("Restart button works as expected.");
 
-        // Test Game Over popup
-        System.out.println("Testing Game Over popup...");
+        // Test Game Over results view
+        System.out.println("Testing Game Over results view...");
         simulateGameOver(matchCards);
     }
 
     /**
-     * Simulates the Game Over popup by testing the Restart and Close buttons.
+     * Simulates the Game Over results view by testing the Restart and Close buttons.
      *
      * @param matchCards The MatchCards instance to test.
      */
     private static void simulateGameOver(MatchCards matchCards) {
-        // Trigger the Game Over popup
-        JDialog gameOverDialog = matchCards.showGameOverPopup();
-
-        // Test the Restart button in the popup
-        JButton popupRestartButton = findButtonByName(gameOverDialog, "Restart");
-        assert popupRestartButton != null : "Restart button in Game Over popup not found.";
-        simulateButtonClick(popupRestartButton, "Game Over Restart");
+        // Trigger the Game Over results view
+        JPanel resultsView = matchCards.showResults();
+
+        // Test the Restart button in the results view
+        JButton resultsRestartButton = findButtonByName(resultsView, "Restart");
+        assert resultsRestartButton != null : "Restart button in Game Over results view not found.";
+        simulateButtonClick(resultsRestartButton, "Game Over Restart");
+        assert matchCards.window.currentView.equals(AppWindow.BOARD_VIEW) : "Restart did not return to the board.";
         System.out.println("Game Over Restart button works as expected.");
 
-        // Test the Close button in the popup
-        JButton popupCloseButton = findButtonByName(gameOverDialog, "Close");
-        assert popupCloseButton != null : "Close button in Game Over popup not found.";
-        simulateButtonClick(popupCloseButton, "Game Over Close");
+        // Test the Close button in the results view
+        matchCards.showResults();
+        JButton resultsCloseButton = findButtonByName(resultsView, "Close");
+        assert resultsCloseButton != null : "Close button in Game Over results view not found.";
+        simulateButtonClick(resultsCloseButton, "Game Over Close");
+        assert matchCards.window.currentView.equals(AppWindow.MENU_VIEW) : "Close did not return to the menu.";
         System.out.println("Game Over Close button works as expected.");
     }
 
@@ -133,65 +176,71 @@ public class GameTester {
         System.out.println("Starting Stress Test for Card Flipping...");
 
         // Ensure the board is not empty
-        if (matchCards.board.isEmpty()) {
+        if (matchCards.engine.size() == 0) {
             System.out.println("No cards available for stress testing.");
             return;
         }
 
         // Simulate rapid card flipping
         for (int i = 0; i < 50; i++) { // Simulate 50 rapid clicks
-            int cardIndex = i % matchCards.board.size(); // Cycle through available cards
-            JButton cardButton = matchCards.board.get(cardIndex);
-            simulateButtonClick(cardButton, "Rapid card flip " + (i + 1));
+            int cardIndex = i % matchCards.engine.size(); // Cycle through available cards
+            simulateTileClick(matchCards.boardPanel, cardIndex, "Rapid card flip " + (i + 1));
         }
 
         // Ensure no unexpected errors occurred during stress test
-        assert matchCards.errorCount >= 0 : "Error count became negative during stress test!";
+        assert matchCards.engine.errorCount >= 0 : "Error count became negative during stress test!";
         System.out.println("Stress Test for Card Flipping completed successfully.");
     }
 
     /**
-     * Tests the randomness of the shuffle logic by checking card positions across multiple shuffles.
+     * Tests the randomness of the shuffle logic with a chi-squared test of how often each card lands on
+     * each position. The deals are seeded, so the test gives the same result on every run and only fails
+     * on real bias. ShuffleQualityTester runs the full statistical suite on the engine's deal.
      *
      * @param matchCards The MatchCards instance to test.
      */
     public static void testRandomShuffling(MatchCards matchCards) {
         System.out.println("Starting Random Shuffling Test...");
 
-        int shuffleCount = 100; // Number of shuffles to test
-        int deckSize = matchCards.cardSet.size();
-        int[][] positionTracker = new int[deckSize][deckSize];
+        int shuffleCount = 20_000; // Number of shuffles to test
+        long seed = 20250204L;     // Base seed, each deal is seeded from it and the shuffle number
+        int boardSize = matchCards.cardSet.size();
+        int faces = matchCards.deck.size();
+        int[][] positionTracker = new int[faces][boardSize];
 
-        // Perform multiple shuffles and record positions
+        // Perform multiple shuffles and record the face on each position
         for (int shuffle = 0; shuffleCount > shuffle; shuffle++) {
-            matchCards.shuffleCards();
+            matchCards.engine.deal(MonteCarloSimulator.gameSeed(seed, shuffle)); // What shuffleCards does, seeded
+            MatchCards.layOutCards(matchCards.cardSet, matchCards.deck, matchCards.engine);
 
-            for (int i = 0; i < deckSize; i++) {
-                int cardIndex = matchCards.cardSet.indexOf(matchCards.cardSet.get(i));
-                positionTracker[cardIndex][i]++;
+            for (int i = 0; i < boardSize; i++) {
+                positionTracker[matchCards.cardSet.get(i).face][i]++;
             }
         }
 
-        // Check that no card appears in the same position consistently
-        for (int i = 0; i < deckSize; i++) {
-            for (int j = 0; j < deckSize; j++) {
-                assert positionTracker[i][j] < shuffleCount * 0.2 : // Ensure randomness
-                        "Card " + i + " appeared in position " + j + " too frequently.";
+        // Each face appears boardSize / faces times per deal, equally likely on every position
+        double expected = shuffleCount / (double) faces;
+        double chiSquared = 0;
+        for (int[] face : positionTracker) {
+            for (int count : face) {
+                chiSquared += (count - expected) * (count - expected) / expected;
             }
         }
+        double critical = EngineTester.chiSquaredCritical((faces - 1) * (boardSize - 1), ShuffleQualityTester.Z);
+        assert chiSquared < critical : "Card positions are not uniform (chi-squared " + chiSquared + ", critical " + critical + ").";
 
         System.out.println("Random Shuffling Test completed successfully.");
     }
 
     /**
-     * Searches for a button within a JDialog by its text.
+     * Searches for a button within a results view by its text.
      *
-     * @param dialog     The JDialog to search.
+     * @param view       The view to search.
      * @param buttonText The text of the button to find.
      * @return The JButton instance if found, otherwise null.
      */
-    private static JButton findButtonByName(JDialog dialog, String buttonText) {
-        for (Component component : dialog.getContentPane().getComponents()) {
+    private static JButton findButtonByName(JPanel view, String buttonText) {
+        for (Component component : view.getComponents()) {
             if (component instanceof JPanel) {
                 for (Component subComponent : ((JPanel) component).getComponents()) {
                     if (subComponent instanceof JButton) {
@@ -206,6 +255,18 @@ public class GameTester {
         return null;
     }
 
+    /**
+     * Simulates a click on a board tile, the same way a mouse press on the tile is handled.
+     *
+     * @param board    The board to click.
+     * @param position The board position of the tile.
+     * @param action   A description of the action being tested.
+     */
+    private static void simulateTileClick(BoardPanel board, int position, String action) {
+        System.out.println("Simulating tile click: " + action);
+        board.clickTile(position);
+    }
+
     /**
      * Simulates a button click by triggering all attached ActionListeners.
      *
@@ -0,0 +1,197 @@
+/**
+ * HashedWheelScheduler Class
+ * -
+ * Description: HideScheduler for many concurrent games. Pending tasks are kept in a wheel of buckets, one
+ * bucket per tick (10 ms by default), each a doubly linked list; a task due more than one turn of the
+ * wheel ahead waits in its bucket for the remaining turns. Scheduling and cancelling only add the task to
+ * a lock-free queue, and a single worker thread moves queued tasks into their bucket, unlinks cancelled
+ * ones and runs the due bucket on each tick, so both are O(1) whatever the number of pending tasks.
+ * A task runs at most one tick late and never early. Tasks run on the worker thread and must be short.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class HashedWheelScheduler implements HideScheduler {
+
+    // Task states
+    private static final int WAITING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    final long tickNanos;
+    private final Timeout[] wheel;      // Head sentinel of each bucket's list
+    private final int mask;
+    private final long startNanos;
+    private final ConcurrentLinkedQueue<Timeout> additions = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Timeout> cancellations = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean stopped = false;
+    private long tick = 0;              // Next tick to run, worker thread only
+
+    /**
+     * A scheduled task and its place in the wheel.
+     */
+    private static final class Timeout implements Handle {
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        final HashedWheelScheduler scheduler;
+        final Runnable task;
+        final long deadline;        // Nanoseconds after the scheduler started
+        long remainingRounds;
+        Timeout previous;
+        Timeout next;
+        volatile int state = WAITING;
+
+        Timeout(HashedWheelScheduler scheduler, Runnable task, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, WAITING, CANCELLED)) return false;
+            scheduler.cancellations.add(this);
+            scheduler.pending.decrementAndGet();
+            return true;
+        }
+
+        void unlink() {
+            if (previous != null) {
+                previous.next = next;
+                if (next != null) next.previous = previous;
+                previous = null;
+                next = null;
+            }
+        }
+    }
+
+    /**
+     * Constructor for HashedWheelScheduler with a 10 ms tick and 1024 buckets (about 10 s per turn).
+     */
+    public HashedWheelScheduler() {
+        this(10, TimeUnit.MILLISECONDS, 1024);
+    }
+
+    /**
+     * Constructor for HashedWheelScheduler. Starts the worker thread.
+     *
+     * @param tick    The tick duration, the precision of the scheduler.
+     * @param unit    The unit of the tick duration.
+     * @param buckets The number of buckets, rounded up to a power of two.
+     */
+    public HashedWheelScheduler(long tick, TimeUnit unit, int buckets) {
+        tickNanos = unit.toNanos(tick);
+        int size = Integer.highestOneBit(Math.max(1, buckets - 1)) << 1;
+        wheel = new Timeout[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Timeout(this, null, 0);
+        }
+        mask = size - 1;
+        startNanos = System.nanoTime();
+        worker = new Thread(this::run, "hide-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public Handle schedule(Runnable task, long delayMillis) {
+        if (stopped) throw new IllegalStateException("Scheduler is stopped");
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout timeout = new Timeout(this, task, deadline);
+        pending.incrementAndGet();
+        additions.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Returns the number of tasks scheduled that have neither run nor been cancelled.
+     *
+     * @return The pending task count.
+     */
+    public long pendingCount() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the worker thread. Tasks that have not run are dropped.
+     */
+    public void stop() {
+        stopped = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!stopped) {
+            long tickDeadline = (tick + 1) * tickNanos;
+            long sleepNanos;
+            while ((sleepNanos = tickDeadline - (System.nanoTime() - startNanos)) > 0) {
+                LockSupport.parkNanos(sleepNanos);
+                if (stopped) return;
+            }
+            removeCancelled();
+            transferAdditions();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancellations.poll()) != null) {
+            timeout.unlink();
+        }
+    }
+
+    /**
+     * Moves newly scheduled tasks into their bucket. Bounded per tick so a burst cannot stall the wheel.
+     */
+    private void transferAdditions() {
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = additions.poll();
+            if (timeout == null) return;
+            if (timeout.state != WAITING) continue;
+
+            long dueTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            Timeout head = wheel[(int) (Math.max(dueTick, tick) & mask)]; // Already due: run this tick
+            timeout.previous = head;
+            timeout.next = head.next;
+            if (head.next != null) head.next.previous = timeout;
+            head.next = timeout;
+        }
+    }
+
+    private void expire(Timeout head) {
+        Timeout timeout = head.next;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.state != WAITING) {
+                timeout.unlink();
+            } else if (timeout.remainingRounds <= 0) {
+                timeout.unlink();
+                if (Timeout.STATE.compareAndSet(timeout, WAITING, EXPIRED)) {
+                    pending.decrementAndGet();
+                    try {
+                        timeout.task.run();
+                    } catch (RuntimeException e) {
+                        System.err.println("Hide task failed: " + e);
+                    }
+                }
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+}
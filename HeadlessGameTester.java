@@ -0,0 +1,477 @@
+/**
+ * HeadlessGameTester Class
+ * -
+ * Description: Runs GameTester's scenarios (card flipping, game over, stress flipping and shuffle
+ * randomness) without a display, plus a 100x100 board check and one game played through MatchCards.
+ * The engine-level scenarios each get their own GameEngine and BoardPanel, wired the way MatchCards wires
+ * them but never shown, and run in parallel on a thread pool. The MatchCards scenario plays a real game in
+ * the AppWindow on the EDT at the same time: it gets a manual HideScheduler, so the hide delay runs when
+ * the scenario says instead of after a second, and everything else (engine, board, game log, leaderboard,
+ * metrics and the results view) is the game's own. Clicks go through the board, some through its mouse
+ * listener. The suite must finish in under one second. The game log and leaderboards go to a temporary
+ * folder. Exits with status 1 if any scenario fails.
+ * Usage: java -ea HeadlessGameTester
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HeadlessGameTester {
+
+    // Time allowed for the whole suite
+    static final long SUITE_BUDGET_MILLIS = 1000;
+
+    // Clicks made by the stress scenario
+    static final int STRESS_CLICKS = 100_000;
+
+    /**
+     * A scenario, or a scenario step run on the EDT, that may throw.
+     */
+    interface Scenario {
+        void run() throws Exception;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+        File folder = Files.createTempDirectory("mindmatch-headless").toFile();
+        System.setProperty("mindmatch.gameLog", new File(folder, "games.log").getPath());
+        System.setProperty("mindmatch.leaderboardDir", folder.getPath());
+        System.out.println("Starting Headless Game Tester...");
+
+        Map<String, Scenario> scenarios = new LinkedHashMap<>();
+        scenarios.put("Card flipping", HeadlessGameTester::testCardFlipping);
+        scenarios.put("Game over", HeadlessGameTester::testGameOver);
+        scenarios.put("Stress flipping", HeadlessGameTester::testStressFlipping);
+        scenarios.put("Shuffle randomness", HeadlessGameTester::testShuffleRandomness);
+        scenarios.put("Large board", HeadlessGameTester::testLargeBoard);
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(scenarios.size());
+        Map<String, Future<String>> running = new LinkedHashMap<>();
+        for (Map.Entry<String, Scenario> scenario : scenarios.entrySet()) {
+            running.put(scenario.getKey(), pool.submit(() -> timed(scenario.getValue())));
+        }
+        pool.shutdown();
+
+        // The MatchCards game runs on the EDT meanwhile
+        List<String> failures = new ArrayList<>();
+        try {
+            System.out.println("PASS MatchCards game " + timed(HeadlessGameTester::testMatchCardsGame));
+        } catch (Exception | AssertionError e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failures.add("MatchCards game: " + cause);
+        }
+        for (Map.Entry<String, Future<String>> scenario : running.entrySet()) {
+            try {
+                System.out.println("PASS " + scenario.getKey() + " " + scenario.getValue().get());
+            } catch (ExecutionException e) {
+                failures.add(scenario.getKey() + ": " + e.getCause());
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Suite finished in " + elapsedMillis + " ms.");
+        if (elapsedMillis > SUITE_BUDGET_MILLIS) {
+            failures.add("Suite took " + elapsedMillis + " ms, budget is " + SUITE_BUDGET_MILLIS + " ms.");
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAIL " + failure));
+            System.exit(1);
+        }
+        System.out.println("All headless game tests completed successfully.");
+        System.exit(0);
+    }
+
+    /**
+     * Runs a scenario and returns how long it took, for the report.
+     */
+    private static String timed(Scenario scenario) throws Exception {
+        long start = System.nanoTime();
+        scenario.run();
+        return "(" + (System.nanoTime() - start) / 1_000_000 + " ms)";
+    }
+
+    /**
+     * An engine and its board, wired the way MatchCards wires them: a click on the board flips the card
+     * in the engine. The board is never shown, so a scenario can own it on its own thread. Each face and
+     * the back are distinct images, so the board shows which side of each card is up.
+     */
+    static class Board {
+        final GameEngine engine;
+        final BoardPanel panel;
+        final ImageIcon back = new ImageIcon();
+        int lastResult = GameEngine.IGNORED; // Result of the latest click
+
+        Board(int rows, int columns, long seed) {
+            engine = new GameEngine(rows * columns / 2);
+            engine.deal(seed);
+            panel = new BoardPanel(engine, rows, columns, 90, 128);
+            ImageIcon[] faces = new ImageIcon[Math.min(10, engine.pairCount)];
+            for (int face = 0; face < faces.length; face++) {
+                faces[face] = new ImageIcon();
+            }
+            panel.setIcons(faces, back);
+            panel.setTileClickListener(position -> lastResult = engine.flip(position));
+        }
+
+        // Clicks a tile through the board and returns the engine's answer
+        int click(int position) {
+            panel.clickTile(position);
+            return lastResult;
+        }
+
+        // Clicks a tile with the mouse, through the board's own mouse listener
+        int mouseClick(int position) {
+            int x = (position % panel.columns) * panel.tileWidth + panel.tileWidth / 2;
+            int y = (position / panel.columns) * panel.tileHeight + panel.tileHeight / 2;
+            lastResult = GameEngine.IGNORED;
+            panel.dispatchEvent(new MouseEvent(panel, MouseEvent.MOUSE_PRESSED, System.currentTimeMillis(),
+                    MouseEvent.BUTTON1_DOWN_MASK, x, y, 1, false, MouseEvent.BUTTON1));
+            return lastResult;
+        }
+
+        boolean faceUp(int position) {
+            return panel.iconAt(position) != back;
+        }
+
+        int partnerOf(int position) {
+            return HeadlessGameTester.partnerOf(engine, position);
+        }
+
+        int mismatchFor(int position) {
+            return HeadlessGameTester.mismatchFor(engine, position);
+        }
+    }
+
+    /**
+     * Runs the hide delay only when the test asks, instead of after HIDE_DELAY_MILLIS.
+     */
+    static class ManualHideScheduler implements HideScheduler {
+        Runnable pending;  // Task of the latest schedule() not yet run or cancelled
+
+        @Override
+        public Handle schedule(Runnable task, long delayMillis) {
+            pending = task;
+            return () -> {
+                if (pending != task) return false;
+                pending = null;
+                return true;
+            };
+        }
+
+        /**
+         * Runs the pending hide, as if its delay had passed.
+         *
+         * @return True if a hide was pending.
+         */
+        boolean expire() {
+            Runnable task = pending;
+            pending = null;
+            if (task != null) task.run();
+            return task != null;
+        }
+    }
+
+    /**
+     * A MatchCards game shown in the application window, with its hide delay under the test's control.
+     */
+    static class Game {
+        final MatchCards game;
+        final GameEngine engine;
+        final BoardPanel board;
+        final ManualHideScheduler hides = new ManualHideScheduler();
+
+        private Game(MatchCards game) {
+            this.game = game;
+            this.engine = game.engine;
+            this.board = game.boardPanel;
+            game.hideScheduler = hides; // Before the card back loads, so the preview hide is scheduled here
+        }
+
+        /**
+         * Builds and shows a game, and waits until its cards are dealt and the preview has started.
+         * Called off the EDT.
+         */
+        static Game start(int rows, int columns) throws Exception {
+            return start(rows, columns, ThemeRegistry.shared().current());
+        }
+
+        /**
+         * Builds and shows a game with the cards of a given theme, and waits until its cards are dealt
+         * and the preview has started. Called off the EDT.
+         */
+        static Game start(int rows, int columns, Theme theme) throws Exception {
+            Game[] started = new Game[1];
+            SwingUtilities.invokeAndWait(() -> started[0] = new Game(new MatchCards(rows, columns, theme, true)));
+            boolean[] ready = new boolean[1];
+            while (!ready[0]) {
+                SwingUtilities.invokeAndWait(() -> ready[0] = started[0].game.started);
+                if (!ready[0]) Thread.sleep(1);
+            }
+            return started[0];
+        }
+
+        ImageIcon back() {
+            return game.cardBackImageIcon;
+        }
+
+        boolean gameOver() {
+            return game.window.game == game && game.window.currentView.equals(AppWindow.RESULTS_VIEW);
+        }
+
+        // Clicks a tile with the mouse, through the board's own mouse listener
+        void mouseClick(int position) {
+            int x = (position % board.columns) * game.cardWidth + game.cardWidth / 2;
+            int y = (position / board.columns) * game.cardHeight + game.cardHeight / 2;
+            board.dispatchEvent(new MouseEvent(board, MouseEvent.MOUSE_PRESSED, System.currentTimeMillis(),
+                    MouseEvent.BUTTON1_DOWN_MASK, x, y, 1, false, MouseEvent.BUTTON1));
+        }
+
+        int partnerOf(int position) {
+            return HeadlessGameTester.partnerOf(engine, position);
+        }
+
+        int mismatchFor(int position) {
+            return HeadlessGameTester.mismatchFor(engine, position);
+        }
+    }
+
+    /**
+     * Flips cards with the mouse: clicks during the preview are ignored, a first card shows its face, a
+     * mismatch shows both until resolved, a third click meanwhile is ignored, and a match stays face-up.
+     */
+    public static void testCardFlipping() {
+        Board board = new Board(4, 5, 1);
+        check(board.faceUp(0), "Cards are not face-up during the preview.");
+        check(board.mouseClick(0) == GameEngine.IGNORED, "Click during the preview was not ignored.");
+        board.engine.resolve(); // End the preview
+        check(!board.faceUp(0), "Cards stayed face-up after the preview.");
+
+        int other = board.mismatchFor(0);
+        check(board.mouseClick(0) == GameEngine.FIRST && board.faceUp(0), "First card did not flip.");
+        check(board.mouseClick(other) == GameEngine.MISMATCH && board.faceUp(other), "Second card did not flip.");
+        check(board.engine.errorCount == 1, "Mismatch was not counted.");
+        check(board.mouseClick(board.partnerOf(0)) == GameEngine.IGNORED, "Third click was not ignored.");
+        board.engine.resolve(); // The hide delay
+        check(!board.faceUp(0) && !board.faceUp(other), "Mismatched cards stayed face-up.");
+
+        int partner = board.partnerOf(0);
+        board.click(0);
+        check(board.click(partner) == GameEngine.MATCH, "Matching pair was not a match.");
+        check(board.engine.isMatched(0) && board.faceUp(0) && board.faceUp(partner), "Matched cards are not face-up.");
+    }
+
+    /**
+     * Plays games to the end with a known number of errors and checks the final result and score, and
+     * that clicks after the end are ignored.
+     */
+    public static void testGameOver() {
+        Board board = new Board(4, 5, 2);
+        for (int errors = 0; errors < 5; errors++) {
+            board.engine.reset();
+            board.engine.deal(100 + errors);
+            board.engine.resolve();
+            for (int e = 0; e < errors; e++) {
+                board.click(0);
+                board.click(board.mismatchFor(0));
+                board.engine.resolve();
+            }
+            int result = GameEngine.IGNORED;
+            for (int position = 0; position < board.engine.size(); position++) {
+                if (board.engine.isMatched(position)) continue;
+                board.click(position);
+                result = board.click(board.partnerOf(position));
+            }
+            check(result == GameEngine.GAME_OVER, "Last pair did not end the game.");
+            check(board.engine.errorCount == errors, "Game over with " + board.engine.errorCount + " errors, expected " + errors + ".");
+            check(board.engine.score == GameEngine.START_SCORE - errors, "Final score is wrong.");
+            check(board.click(0) == GameEngine.IGNORED, "Click after game over was not ignored.");
+        }
+    }
+
+    /**
+     * Clicks randomly, letting the hide delay expire at random, and checks the engine's invariants after
+     * every click. Finished games are dealt again.
+     */
+    public static void testStressFlipping() {
+        Board board = new Board(4, 5, 3);
+        board.engine.resolve();
+        SplittableRandom random = new SplittableRandom(17);
+        GameEngine engine = board.engine;
+        for (int i = 0; i < STRESS_CLICKS; i++) {
+            if (random.nextInt(4) == 0) engine.resolve();
+            int result = board.click(random.nextInt(engine.size()));
+            check(engine.errorCount >= 0 && engine.score == GameEngine.START_SCORE - engine.errorCount
+                    && engine.matchedPairs <= engine.pairCount, "Invariant broken after click " + i + ".");
+            if (result == GameEngine.GAME_OVER) {
+                check(engine.matchedPairs == engine.pairCount, "Game over before every pair was found.");
+                engine.reset();
+                engine.deal(random.nextLong());
+                engine.resolve();
+            }
+        }
+    }
+
+    /**
+     * Deals a board many times from seeds and runs a chi-squared test on how often each face lands on
+     * each position, counting faces the way the board shows them.
+     */
+    public static void testShuffleRandomness() {
+        Board board = new Board(4, 5, 4);
+        int deals = 20_000;
+        int faces = board.panel.faceIcons.length;
+        int size = board.engine.size();
+        int[][] counts = new int[faces][size];
+        for (int deal = 0; deal < deals; deal++) {
+            board.engine.deal(MonteCarloSimulator.gameSeed(20250204L, deal));
+            for (int position = 0; position < size; position++) {
+                counts[board.panel.faceOf(position)][position]++;
+            }
+        }
+
+        double expected = deals / (double) faces; // Each face appears size / faces times per deal
+        double chiSquared = 0;
+        for (int[] face : counts) {
+            for (int count : face) {
+                chiSquared += (count - expected) * (count - expected) / expected;
+            }
+        }
+        int degreesOfFreedom = (faces - 1) * (size - 1);
+        double critical = EngineTester.chiSquaredCritical(degreesOfFreedom, ShuffleQualityTester.Z); // p = 1e-6
+        check(chiSquared < critical, "Card positions are not uniform (chi-squared " + chiSquared + ", critical " + critical + ").");
+    }
+
+    /**
+     * Paints the visible part of a 100x100 board: each face must be requested once, and a click
+     * through the mouse must reach the tile under it.
+     */
+    public static void testLargeBoard() {
+        Board board = new Board(100, 100, 5);
+        board.panel.setIcons(new ImageIcon[board.panel.faceIcons.length], board.back); // Faces not loaded yet
+        List<Integer> requested = new ArrayList<>();
+        board.panel.setFaceRequestListener(requested::add);
+
+        board.panel.setSize(board.panel.getPreferredSize()); // Laid out as the scroll pane would
+        java.awt.Dimension viewport = board.panel.getPreferredScrollableViewportSize();
+        BufferedImage canvas = new BufferedImage(viewport.width, viewport.height, BufferedImage.TYPE_INT_RGB);
+        java.awt.Graphics2D g = canvas.createGraphics();
+        g.setClip(0, 0, viewport.width, viewport.height);
+        board.panel.paint(g);
+        board.panel.paint(g);
+        g.dispose();
+        check(!requested.isEmpty(), "No face was requested.");
+        check(requested.size() == new java.util.HashSet<>(requested).size(), "A face was requested twice.");
+        check(requested.size() <= board.panel.faceIcons.length, "More faces requested than exist.");
+
+        board.engine.resolve();
+        int position = 100 * 57 + 83;
+        check(board.mouseClick(position) == GameEngine.FIRST && board.engine.card1Selected == position,
+                "Mouse click reached the wrong tile.");
+    }
+
+    /**
+     * Plays one MatchCards game in the window: the preview and its hide, a mismatch with its error label
+     * and hide, a restart from the button, a game to the end with the results view, and a restart from
+     * the results view.
+     */
+    public static void testMatchCardsGame() throws Exception {
+        Game game = Game.start(4, 5);
+        onEdt(() -> {
+            check(game.engine.isFaceUp(0), "Cards are not face-up before the hide delay.");
+            game.mouseClick(0);
+            check(game.engine.card1Selected == -1, "Click during the preview was not ignored.");
+            check(game.hides.expire(), "Preview hide was not scheduled.");
+            check(game.game.restartButton.isEnabled(), "Restart was not enabled after the preview.");
+
+            int other = game.mismatchFor(0);
+            game.mouseClick(0);
+            game.mouseClick(other);
+            check(game.board.iconAt(0) != game.back() && game.board.iconAt(other) != game.back(), "Mismatched cards did not flip.");
+            check(game.game.textLabel.getText().equals("Errors: 1"), "Error label was not updated.");
+            check(game.hides.expire(), "Mismatch hide was not scheduled.");
+            check(game.board.iconAt(0) == game.back() && game.board.iconAt(other) == game.back(), "Mismatched cards stayed face-up.");
+
+            long seed = game.engine.seed;
+            game.game.restartButton.doClick(0);
+            check(game.engine.errorCount == 0 && game.engine.seed != seed, "Restart did not deal a new game.");
+            for (int i = 0; i < game.engine.size(); i++) {
+                check(game.game.cardSet.get(i).face == game.engine.cardAt(i) % game.game.deck.size(),
+                        "Cards on the board do not match the new deal.");
+            }
+            check(game.hides.expire(), "Restart did not schedule the preview hide.");
+
+            game.board.clickTile(0);
+            game.board.clickTile(game.mismatchFor(0));
+            game.hides.expire();
+            for (int position = 0; position < game.engine.size(); position++) {
+                if (game.engine.isMatched(position)) continue;
+                game.board.clickTile(position);
+                game.board.clickTile(game.partnerOf(position));
+            }
+            check(game.gameOver(), "Game over did not show the results view.");
+            check(game.board.timedPosition == -1, "Click-to-paint timer left armed behind the results view.");
+            check(game.game.window.errorsLabel.getText().contains("1"), "Results show the wrong error count.");
+            check(game.engine.score == GameEngine.START_SCORE - 1, "Final score is wrong.");
+
+            game.game.window.resultsRestartButton.doClick(0);
+            check(!game.gameOver() && game.engine.matchedPairs == 0, "Restart from game over did not reset.");
+            game.hides.expire();
+            game.board.clickTile(0);
+            check(game.board.timedPosition == 0, "Flip was not timed.");
+            game.game.restartButton.doClick(0);
+            check(game.board.timedPosition == -1, "Restart left the click-to-paint timer armed.");
+        });
+    }
+
+    // Finds the other position holding the same card
+    static int partnerOf(GameEngine engine, int position) {
+        for (int i = 0; i < engine.size(); i++) {
+            if (i != position && engine.cardAt(i) == engine.cardAt(position)) return i;
+        }
+        throw new AssertionError("Card at " + position + " has no partner.");
+    }
+
+    // Finds an unmatched position holding a different card
+    static int mismatchFor(GameEngine engine, int position) {
+        for (int i = 0; i < engine.size(); i++) {
+            if (engine.cardAt(i) != engine.cardAt(position) && !engine.isMatched(i)) return i;
+        }
+        throw new AssertionError("No mismatch for " + position + ".");
+    }
+
+    /**
+     * Runs a scenario step on the EDT, where MatchCards runs, and rethrows its failure.
+     */
+    private static void onEdt(Scenario step) throws Exception {
+        Exception[] failure = new Exception[1];
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                step.run();
+            } catch (Exception e) {
+                failure[0] = e;
+            }
+        });
+        if (failure[0] != null) throw failure[0];
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) throw new AssertionError(message);
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * HideScheduler Interface
+ * -
+ * Description: Runs a task once after a delay, used to turn mismatched cards face-down again and to end
+ * the face-up preview. MatchCards uses the SwingHideScheduler, so hides run on the Event Dispatch Thread
+ * exactly as the old Swing timer did; the GameServer shares one HashedWheelScheduler between all of its
+ * sessions, which keeps hundreds of thousands of pending hides cheap.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+public interface HideScheduler {
+
+    /**
+     * A scheduled task that has not necessarily run yet.
+     */
+    interface Handle {
+
+        /**
+         * Stops the task from running if it has not started.
+         *
+         * @return True if the task was cancelled, false if it already ran or was cancelled before.
+         */
+        boolean cancel();
+    }
+
+    /**
+     * Runs a task once after a delay.
+     *
+     * @param task        The task to run.
+     * @param delayMillis The delay in milliseconds.
+     * @return A handle to cancel the task.
+     */
+    Handle schedule(Runnable task, long delayMillis);
+}
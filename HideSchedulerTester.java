@@ -0,0 +1,136 @@
+/**
+ * HideSchedulerTester Class
+ * -
+ * Description: Tests the HideScheduler implementations. The HashedWheelScheduler must never run a task
+ * early, run it at most about a tick late, run exactly the tasks that were not cancelled, and keep
+ * schedule and cancel cheap with hundreds of thousands of tasks pending. The SwingHideScheduler must run
+ * its task on the Event Dispatch Thread and honour cancel. Runs without a display
+ * (java -ea HideSchedulerTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class HideSchedulerTester {
+
+    public static void main(String[] args) throws InterruptedException {
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("Starting Hide Scheduler Tester...");
+
+        testWheelTiming();
+        testWheelCancel();
+        testSwingScheduler();
+
+        System.out.println("All hide scheduler tests completed successfully.");
+    }
+
+    /**
+     * Schedules tasks with random delays and checks when each one runs.
+     */
+    public static void testWheelTiming() throws InterruptedException {
+        System.out.println("Testing wheel timing...");
+
+        HashedWheelScheduler wheel = new HashedWheelScheduler(10, TimeUnit.MILLISECONDS, 16); // Short turn, so rounds are used
+        int tasks = 2000;
+        CountDownLatch done = new CountDownLatch(tasks);
+        AtomicInteger early = new AtomicInteger();
+        AtomicLong maxLateNanos = new AtomicLong();
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < tasks; i++) {
+            long delayMillis = random.nextInt(400);
+            long due = System.nanoTime() + delayMillis * 1_000_000;
+            wheel.schedule(() -> {
+                long late = System.nanoTime() - due;
+                if (late < 0) early.incrementAndGet();
+                maxLateNanos.accumulateAndGet(late, Math::max);
+                done.countDown();
+            }, delayMillis);
+        }
+        boolean allRan = done.await(5, TimeUnit.SECONDS);
+        assert allRan : "Not every task ran.";
+        wheel.stop();
+
+        System.out.println("Latest task ran " + maxLateNanos.get() / 1_000_000 + " ms after its delay (tick 10 ms).");
+        assert early.get() == 0 : early.get() + " tasks ran early.";
+        assert maxLateNanos.get() < 100_000_000 : "A task ran " + maxLateNanos.get() / 1_000_000 + " ms late.";
+    }
+
+    /**
+     * Schedules hundreds of thousands of tasks, cancels half, and checks that exactly the others run.
+     */
+    public static void testWheelCancel() throws InterruptedException {
+        System.out.println("Testing wheel schedule and cancel...");
+
+        HashedWheelScheduler wheel = new HashedWheelScheduler();
+        int tasks = 500_000;
+        AtomicInteger ran = new AtomicInteger();
+        Runnable task = ran::incrementAndGet;
+        HideScheduler.Handle[] handles = new HideScheduler.Handle[tasks];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            handles[i] = wheel.schedule(task, 2000 + i % 1000); // Still pending after scheduling them all
+        }
+        long scheduleNanos = System.nanoTime() - start;
+        assert wheel.pendingCount() == tasks : "Pending count is " + wheel.pendingCount();
+
+        start = System.nanoTime();
+        int cancelledCount = 0;
+        for (int i = 0; i < tasks; i += 2) {
+            if (handles[i].cancel()) cancelledCount++;
+        }
+        long cancelNanos = System.nanoTime() - start;
+        assert cancelledCount == tasks / 2 : "Only " + cancelledCount + " cancels succeeded.";
+        boolean cancelledTwice = handles[0].cancel();
+        assert !cancelledTwice : "Second cancel succeeded.";
+
+        System.out.printf("Schedule: %d ns per task, cancel: %d ns per task, %d pending%n",
+                scheduleNanos / tasks, cancelNanos / (tasks / 2), wheel.pendingCount());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (wheel.pendingCount() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Thread.sleep(50);
+        wheel.stop();
+        assert ran.get() == tasks / 2 : ran.get() + " tasks ran, expected " + tasks / 2;
+        boolean cancelledAfterRun = handles[1].cancel();
+        assert !cancelledAfterRun : "Cancel succeeded after the task ran.";
+    }
+
+    /**
+     * Checks the Swing scheduler runs on the Event Dispatch Thread and can be cancelled.
+     */
+    public static void testSwingScheduler() throws InterruptedException {
+        System.out.println("Testing Swing scheduler...");
+
+        AtomicBoolean cancelledRan = new AtomicBoolean();
+        HideScheduler.Handle cancelled = SwingHideScheduler.INSTANCE.schedule(() -> cancelledRan.set(true), 50);
+        boolean wasPending = cancelled.cancel();
+        assert wasPending : "Cancel of a pending Swing hide failed.";
+
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicBoolean onEdt = new AtomicBoolean();
+        HideScheduler.Handle handle = SwingHideScheduler.INSTANCE.schedule(() -> {
+            onEdt.set(SwingUtilities.isEventDispatchThread());
+            ran.countDown();
+        }, 50);
+        boolean hideRan = ran.await(2, TimeUnit.SECONDS);
+        assert hideRan : "Swing hide did not run.";
+        Thread.sleep(100);
+
+        assert onEdt.get() : "Swing hide did not run on the EDT.";
+        assert !cancelledRan.get() : "Cancelled Swing hide ran.";
+        boolean cancelledAfterRun = handle.cancel();
+        assert !cancelledAfterRun : "Cancel succeeded after the Swing hide ran.";
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * ImageCache Class
+ * -
+ * Description: Process-wide cache of decoded and scaled images, keyed by asset path, width and height.
+ * IntroGUI and MatchCards load every image through the shared cache, so restarting the game or
+ * returning to the menu does not decode or rescale anything again. The cache holds a bounded number
+ * of entries and evicts the least recently used one when full. Hit, miss and eviction counters are
+ * kept so the cache can be checked while the game runs.
+ * On a miss the image is taken from the AssetPack when there is one (already scaled, no decoding), and
+ * decoded from its file otherwise.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class ImageCache {
+
+    // Shared cache used by the game, size can be changed with -Dmindmatch.imageCache.size=<entries>
+    public static final ImageCache SHARED = new ImageCache(Integer.getInteger("mindmatch.imageCache.size", 64));
+
+    final int maxEntries;
+
+    // Access-ordered map, so the eldest entry is the least recently used
+    private final LinkedHashMap<String, ImageIcon> images;
+
+    // Counters, guarded by the images lock
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    /**
+     * Constructor for ImageCache.
+     *
+     * @param maxEntries The maximum number of images kept before the least recently used is evicted.
+     */
+    public ImageCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        images = new LinkedHashMap<String, ImageIcon>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ImageIcon> eldest) {
+                if (size() > ImageCache.this.maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the image at the given path scaled to the given size, loading and scaling it on a miss.
+     * Loading happens outside the lock so threads loading different images do not wait on each other.
+     *
+     * @param path   The image file path (e.g., "src/img2/goku1.jpg").
+     * @param width  The width to scale to.
+     * @param height The height to scale to.
+     * @return The scaled image, shared between all callers asking for the same key.
+     */
+    public ImageIcon get(String path, int width, int height) {
+        return get(path, width, height, () -> load(path, width, height));
+    }
+
+    /**
+     * Returns a cached image, calling the loader on a miss. Used for images that are not plain files,
+     * such as theme images inside an archive.
+     *
+     * @param name   The name the image is cached under.
+     * @param width  The width it is scaled to.
+     * @param height The height it is scaled to.
+     * @param loader Loads and scales the image on a miss.
+     * @return The scaled image, shared between all callers asking for the same key.
+     */
+    public ImageIcon get(String name, int width, int height, Supplier<ImageIcon> loader) {
+        String key = name + "@" + width + "x" + height;
+        synchronized (images) {
+            ImageIcon icon = images.get(key);
+            if (icon != null) {
+                hits++;
+                return icon;
+            }
+            misses++;
+        }
+
+        ImageIcon loaded = loader.get();
+        synchronized (images) {
+            // Another thread may have loaded the same image meanwhile, keep the first one
+            ImageIcon existing = images.putIfAbsent(key, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    /**
+     * Loads an image at the given size, from the asset pack if it holds it, otherwise from its file.
+     */
+    static ImageIcon load(String path, int width, int height) {
+        AssetPack pack = AssetPack.shared();
+        if (pack != null) {
+            ImageIcon packed = pack.get(path, width, height);
+            if (packed != null) return packed;
+        }
+        return decode(path, width, height);
+    }
+
+    /**
+     * Decodes an image file and scales it smoothly to the given size. The file is read with createImage,
+     * not getImage, so the toolkit does not keep the full-size image in its own cache next to this one.
+     */
+    static ImageIcon decode(String path, int width, int height) {
+        Image img = new ImageIcon(Toolkit.getDefaultToolkit().createImage(path)).getImage();
+        return new ImageIcon(img.getScaledInstance(width, height, Image.SCALE_SMOOTH));
+    }
+
+    /**
+     * Removes every image from the cache. Counters are kept.
+     */
+    public void clear() {
+        synchronized (images) {
+            images.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (images) {
+            return images.size();
+        }
+    }
+
+    public long getHitCount() {
+        synchronized (images) {
+            return hits;
+        }
+    }
+
+    public long getMissCount() {
+        synchronized (images) {
+            return misses;
+        }
+    }
+
+    public long getEvictionCount() {
+        synchronized (images) {
+            return evictions;
+        }
+    }
+
+    /**
+     * Returns a one-line summary of the cache counters, useful for logging.
+     *
+     * @return The entry count and hit, miss and eviction counters.
+     */
+    @Override
+    public String toString() {
+        synchronized (images) {
+            return "ImageCache[size=" + images.size() + "/" + maxEntries + ", hits=" + hits
+                    + ", misses=" + misses + ", evictions=" + evictions + "]";
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * ImageCacheTester Class
+ * -
+ * Description: Tests the ImageCache: repeated loads are served from the cache, the least recently
+ * used image is evicted when the cache is full, and the counters track both. Writes a few small
+ * JPEG files to a temporary folder so it runs without the game assets or a display.
+ * Run with assertions enabled (java -ea ImageCacheTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+public class ImageCacheTester {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Image Cache Tester...");
+
+        File folder = new File(System.getProperty("java.io.tmpdir"), "mindmatch-cache-test");
+        folder.mkdirs();
+        String a = writeImage(folder, "a.jpg");
+        String b = writeImage(folder, "b.jpg");
+        String c = writeImage(folder, "c.jpg");
+
+        testHitsAndMisses(a);
+        testLeastRecentlyUsedEviction(a, b, c);
+
+        System.out.println("All image cache tests completed successfully.");
+    }
+
+    /**
+     * Checks that a second request for the same key returns the same image without loading it again.
+     */
+    public static void testHitsAndMisses(String path) {
+        System.out.println("Testing cache hits and misses...");
+        ImageCache cache = new ImageCache(4);
+
+        ImageIcon first = cache.get(path, 90, 128);
+        ImageIcon second = cache.get(path, 90, 128);
+        ImageIcon otherSize = cache.get(path, 45, 64);
+
+        assert first == second : "Cached image was not reused.";
+        assert first != otherSize : "Different sizes must be cached separately.";
+        assert first.getIconWidth() == 90 && first.getIconHeight() == 128 : "Image was not scaled.";
+        assert cache.getHitCount() == 1 : "Expected 1 hit, got " + cache.getHitCount();
+        assert cache.getMissCount() == 2 : "Expected 2 misses, got " + cache.getMissCount();
+        System.out.println(cache);
+    }
+
+    /**
+     * Checks that the least recently used image is the one evicted when the cache is full.
+     */
+    public static void testLeastRecentlyUsedEviction(String a, String b, String c) {
+        System.out.println("Testing LRU eviction...");
+        ImageCache cache = new ImageCache(2);
+
+        ImageIcon iconA = cache.get(a, 10, 10);
+        cache.get(b, 10, 10);
+        cache.get(a, 10, 10);  // a is now more recently used than b
+        cache.get(c, 10, 10);  // Evicts b
+
+        assert cache.size() == 2 : "Cache grew past its bound.";
+        assert cache.getEvictionCount() == 1 : "Expected 1 eviction, got " + cache.getEvictionCount();
+        assert cache.get(a, 10, 10) == iconA : "Recently used image was evicted.";
+        long misses = cache.getMissCount();
+        cache.get(b, 10, 10);
+        assert cache.getMissCount() == misses + 1 : "Least recently used image was not evicted.";
+        System.out.println(cache);
+    }
+
+    private static String writeImage(File folder, String name) throws IOException {
+        File file = new File(folder, name);
+        ImageIO.write(new BufferedImage(180, 256, BufferedImage.TYPE_INT_RGB), "jpg", file);
+        return file.getPath();
+    }
+}
@@ -1,9 +1,12 @@
 /**
  * IntroGUI Class
  * -
- * Description: This class displays the introductory screen for the game with options to
- * start the game, view help, or quit the application. Each button has a dedicated action:
- * - "Play" launches the game (MatchCards).
+ * Description: This class builds the introductory screen for the game, the menu view of the AppWindow, with
+ * options to start the game, view help, or quit the application. Each button has a dedicated action:
+ * - "Play" launches the game (MatchCards) with the board size chosen in the size box and, when theme
+ *   archives are installed, the theme chosen in the theme box.
+ *   The game for the chosen size is built in the background while the menu is showing (GamePreloader),
+ *   so Play only has to show it. Playing the same size and theme again reuses the last game's board.
  * - "Help" opens a help dialog with instructions.
  * - "Quit" prompts the user to exit the game.
  * -
@@ -19,28 +22,43 @@ import java.awt.event.ActionListener;
 
 public class IntroGUI {
 
-    // Main window for the intro screen
-    JFrame frame = new JFrame("Mind Match: A Memory Game");
+    // Board sizes offered in the size box, as "rows x columns"
+    static final String[] BOARD_SIZES = {"4 x 5", "6 x 6", "8 x 10", "20 x 20", "50 x 50", "100 x 100"};
+
+    // Window the menu is shown in and the menu view itself
+    AppWindow window;
+    JPanel menuPanel = new JPanel(new BorderLayout());
     JButton playButton = new JButton("Play");
     JButton helpButton = new JButton("Help");
     JButton quitButton = new JButton("Quit");
+    JComboBox<String> sizeBox = new JComboBox<>(BOARD_SIZES);  // Board size for the next game
+    ThemeRegistry themes = ThemeRegistry.shared();
+    JComboBox<Theme> themeBox = new JComboBox<>(themes.themes.toArray(new Theme[0]));  // Theme for the next game
     JLabel imageLabel = new JLabel();  // Displays an image below the buttons
+    GamePreloader preloader;           // Builds the game for the chosen size in the background
+    JDialog helpDialog;                // Built the first time Help is pressed
 
     /**
-     * Constructor for IntroGUI. Sets up the main window, configures buttons,
-     * and displays an image. Each button is assigned an ActionListener.
+     * Constructor for IntroGUI. Shows the menu in the application window.
      */
     public IntroGUI() {
-        // Frame settings
-        frame.setSize(350, 460);
-        frame.setLocationRelativeTo(null);  // Center the window on the screen
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
-        frame.setLayout(new BorderLayout());
+        this(AppWindow.shared());
+    }
+
+    /**
+     * Constructor for IntroGUI. Sets up the menu view, configures buttons,
+     * and displays an image. Each button is assigned an ActionListener.
+     *
+     * @param window The window to show the menu in.
+     */
+    IntroGUI(AppWindow window) {
+        this.window = window;
+        menuPanel.setPreferredSize(new Dimension(350, 470));
 
         // Title label setup
         JLabel titleLabel = new JLabel("Lizard Ball Z Edition", JLabel.CENTER);
         titleLabel.setFont(new Font("Arial", Font.BOLD, 24));
-        frame.add(titleLabel, BorderLayout.NORTH);
+        menuPanel.add(titleLabel, BorderLayout.NORTH);
 
         // Center panel for buttons and image
         JPanel centerPanel = new JPanel();
@@ -53,8 +71,15 @@ public class IntroGUI {
         playButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                frame.dispose();  // Close the intro GUI
-                new MatchCards();  // Launch the main game
+                long playNanos = System.nanoTime();
+                MatchCards last = window.game;
+                if (last != null && isChosen(last.rows, last.columns, last.theme)) {
+                    last.show(playNanos);  // Same size and theme as last time, deal a new game on its board
+                } else if (preloader == null || preloader.take(playNanos) == null) {
+                    // Not built yet, build it now
+                    new MatchCards(selectedRows(), selectedColumns());  // Launch the main game
+                }
+                preloader = null;
             }
         });
 
@@ -74,14 +99,37 @@ public class IntroGUI {
         quitButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                int response = JOptionPane.showConfirmDialog(frame, "Are you sure you want to quit the application?", "Quit Game", JOptionPane.YES_NO_OPTION);
+                int response = JOptionPane.showConfirmDialog(window.frame, "Are you sure you want to quit the application?", "Quit Game", JOptionPane.YES_NO_OPTION);
                 if (response == JOptionPane.YES_OPTION) {
                     System.exit(0);  // Close the game
                 }
             }
         });
 
+        // Board size selection, shown above the Play button
+        sizeBox.setFont(new Font("Arial", Font.PLAIN, 16));
+        sizeBox.setMaximumSize(new Dimension(120, 30));
+        sizeBox.setAlignmentX(Component.CENTER_ALIGNMENT);
+        sizeBox.addActionListener(e -> preloadGame());  // Build the newly chosen size instead
+
+        // Theme selection, only offered when theme archives are installed
+        themeBox.setFont(new Font("Arial", Font.PLAIN, 16));
+        themeBox.setMaximumSize(new Dimension(200, 30));
+        themeBox.setAlignmentX(Component.CENTER_ALIGNMENT);
+        themeBox.setSelectedItem(themes.current());
+        themeBox.addActionListener(e -> {
+            themes.select(((Theme) themeBox.getSelectedItem()).name);
+            preloadGame();  // Build with the newly chosen theme instead
+        });
+
         // Add buttons and spacing to center panel
+        centerPanel.add(sizeBox);
+        centerPanel.add(Box.createRigidArea(new Dimension(0, 10)));  // Space between size and Play
+        if (themes.themes.size() > 1) {
+            centerPanel.add(themeBox);
+            centerPanel.add(Box.createRigidArea(new Dimension(0, 10)));  // Space between theme and Play
+            menuPanel.setPreferredSize(new Dimension(350, 510));
+        }
         centerPanel.add(playButton);
         centerPanel.add(Box.createRigidArea(new Dimension(0, 10)));  // Space between buttons
         centerPanel.add(helpButton);
@@ -90,32 +138,64 @@ public class IntroGUI {
         centerPanel.add(Box.createRigidArea(new Dimension(0, 20)));  // Space before image
 
         // Load and display the banner image below buttons
-        Image bannerImg = new ImageIcon("src/img2/banner2.jpg").getImage();
-        Image gameImage = bannerImg.getScaledInstance(300, 250, Image.SCALE_SMOOTH);  // Resize as needed
-        imageLabel.setIcon(new ImageIcon(gameImage));
+        imageLabel.setIcon(ImageCache.SHARED.get("src/img2/banner2.jpg", 300, 250));  // Resize as needed
         imageLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
         centerPanel.add(imageLabel);
 
-        // Add center panel to the frame and set visibility
-        frame.add(centerPanel, BorderLayout.CENTER);
-        frame.setVisible(true);
+        // Add center panel to the menu and show it
+        menuPanel.add(centerPanel, BorderLayout.CENTER);
+        window.showMenu(this);
     }
 
     /**
-     * Displays a help dialog with instructions for the game.
+     * Starts building the game for the chosen board size and theme, throwing away any game built for
+     * another choice. Nothing is built when the last game matches the choice, since Play reuses it.
+     */
+    void preloadGame() {
+        MatchCards last = window.game;
+        boolean reuseLast = last != null && isChosen(last.rows, last.columns, last.theme);
+        if (preloader != null) {
+            if (!reuseLast && isChosen(preloader.rows, preloader.columns, preloader.theme)) return;
+            preloader.discard();
+            preloader = null;
+        }
+        if (!reuseLast) {
+            preloader = new GamePreloader(selectedRows(), selectedColumns(), themes.current());
+        }
+    }
+
+    private boolean isChosen(int rows, int columns, Theme theme) {
+        return rows == selectedRows() && columns == selectedColumns() && theme == themes.current();
+    }
+
+    private int selectedRows() {
+        return Integer.parseInt(((String) sizeBox.getSelectedItem()).split(" x ")[0]);
+    }
+
+    private int selectedColumns() {
+        return Integer.parseInt(((String) sizeBox.getSelectedItem()).split(" x ")[1]);
+    }
+
+    /**
+     * Displays a help dialog with instructions for the game, built the first time and reused after.
      * Activated when the user clicks the "Help" button.
      */
     private void showHelpDialog() {
+        if (helpDialog != null) {
+            helpDialog.setVisible(true);
+            return;
+        }
+
         // Help dialog window setup
-        JFrame helpFrame = new JFrame("Help");
-        helpFrame.setSize(710, 300);
-        helpFrame.setLocationRelativeTo(null);  // Center
-        helpFrame.setLayout(new BorderLayout());
+        helpDialog = new JDialog(window.frame, "Help");
+        helpDialog.setSize(710, 300);
+        helpDialog.setLocationRelativeTo(null);  // Center
+        helpDialog.setLayout(new BorderLayout());
 
         // Help title setup
         JLabel helpTitleLabel = new JLabel("Need some assistance?", JLabel.CENTER);
         helpTitleLabel.setFont(new Font("Arial", Font.BOLD, 20));
-        helpFrame.add(helpTitleLabel, BorderLayout.NORTH);
+        helpDialog.add(helpTitleLabel, BorderLayout.NORTH);
 
         // Help content text area with instructions
         JTextArea helpText = new JTextArea(
@@ -134,9 +214,9 @@ public class IntroGUI {
         );
         helpText.setEditable(false);
         helpText.setFont(new Font("Arial", Font.PLAIN, 16));
-        helpFrame.add(new JScrollPane(helpText), BorderLayout.CENTER);
+        helpDialog.add(new JScrollPane(helpText), BorderLayout.CENTER);
 
-        helpFrame.setVisible(true);
+        helpDialog.setVisible(true);
     }
 }
 
@@ -0,0 +1,153 @@
+/**
+ * LatencyHistogram Class
+ * -
+ * Description: Records latencies in nanoseconds into fixed log-linear buckets: every power of two is split
+ * into 16 buckets, so a reported percentile is at most 1/16 (6.25%) above the true value, from 1 ns up to
+ * about 18 minutes, in under 5 KB. Recording is lock-free (one atomic increment, plus a compare-and-set only
+ * when a new maximum is seen) and never allocates, so it is safe to call on the Event Dispatch Thread for
+ * every click. Published over JMX through LatencyHistogramMBean.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram implements LatencyHistogramMBean {
+
+    // Buckets per power of two is 1 << SUB_BUCKET_BITS
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Largest value kept exactly in its bucket, larger values share the last bucket
+    static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    static final int BUCKET_COUNT = bucketOf(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();     // Number of values recorded
+    private final AtomicLong sum = new AtomicLong();       // Sum of the values, for the mean
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one latency.
+     *
+     * @param nanos The latency in nanoseconds, negative values count as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        counts.incrementAndGet(bucketOf(value));
+        total.incrementAndGet();
+        sum.addAndGet(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * Returns the latency at a percentile, rounded up to the top of its bucket.
+     *
+     * @param percentile A value between 0 and 100.
+     * @return The latency in nanoseconds, or 0 if nothing was recorded.
+     */
+    public long percentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            recorded += snapshot[i];
+        }
+        if (recorded == 0) return 0;
+
+        long target = Math.max(1, (long) Math.ceil(recorded * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(highestValueIn(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Finds the bucket a value falls into. Values below SUB_BUCKETS get a bucket each; above that, the
+     * bucket is the position of the highest set bit followed by the next SUB_BUCKET_BITS bits.
+     *
+     * @param value A value between 0 and MAX_TRACKABLE_NANOS.
+     * @return The bucket index.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The top of the bucket's range.
+     */
+    static long highestValueIn(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    @Override
+    public long getCount() {
+        return total.get();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        long recorded = total.get();
+        return recorded == 0 ? 0 : sum.get() / 1000.0 / recorded;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return percentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getP90Micros() {
+        return percentile(90) / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return percentile(99) / 1000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return max.get() / 1000.0;
+    }
+
+    /**
+     * Clears the histogram. Values recorded while the reset runs may be partly kept.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        total.set(0);
+        sum.set(0);
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count %d, p50 %.1f us, p90 %.1f us, p99 %.1f us, max %.1f us",
+                getCount(), getP50Micros(), getP90Micros(), getP99Micros(), getMaxMicros());
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * LatencyHistogramMBean Interface
+ * -
+ * Description: JMX view of a LatencyHistogram. Percentiles are in microseconds, rounded up to the top of
+ * their bucket (at most 6.25% high). Visible in JConsole or VisualVM under mindmatch/Latency.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+public interface LatencyHistogramMBean {
+
+    long getCount();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP90Micros();
+
+    double getP99Micros();
+
+    double getMaxMicros();
+
+    /**
+     * Clears the recorded latencies.
+     */
+    void reset();
+}
@@ -0,0 +1,284 @@
+/**
+ * Leaderboard Class
+ * -
+ * Description: Persistent leaderboard of finished games for one board size. Every game is appended to a
+ * file of fixed 16-byte records and is never rewritten. In memory the leaderboard keeps only a count of
+ * games per score in a Fenwick tree, which answers "rank of this score" in O(log scores), and the best
+ * 100 games in a sorted array for "top 100". Both are rebuilt at startup in one sequential pass over the
+ * memory-mapped file, so tens of millions of games load in well under a second and take no more heap
+ * than a few thousand.
+ * Ranking: a higher score ranks higher, games with equal scores share a rank, and among equal scores the
+ * earlier game is listed first in the top 100.
+ * -
+ * File layout:
+ * header (16 bytes): int magic "MMLB", int version, 8 bytes reserved
+ * records from offset 16: int score, int errors, long finish time in epoch millis
+ * A partly written record at the end (after a crash) is ignored and overwritten by the next game.
+ * Usage: java Leaderboard [rows columns]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class Leaderboard {
+
+    static final int MAGIC = 0x4D4D4C42; // "MMLB"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_BYTES = 16;
+
+    // Number of games kept for top-K queries
+    public static final int TOP_K = 100;
+
+    // Scores are counted from START_SCORE down; anything below the last bucket shares it
+    static final int SCORE_BUCKETS = 1 << 16;
+
+    // Read window used when rebuilding from the file
+    static final int SCAN_WINDOW = 64 * 1024 * 1024;
+
+    private static final ConcurrentHashMap<String, CompletableFuture<Leaderboard>> OPENED = new ConcurrentHashMap<>();
+
+    /**
+     * One finished game.
+     */
+    public static class Entry {
+        final int score;
+        final int errors;
+        final long finishedMillis;
+
+        Entry(int score, int errors, long finishedMillis) {
+            this.score = score;
+            this.errors = errors;
+            this.finishedMillis = finishedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return score + " (" + errors + " errors, " + new Date(finishedMillis) + ")";
+        }
+    }
+
+    final File file;
+    private final FileChannel channel;
+    private final ByteBuffer recordBuffer = ByteBuffer.allocate(RECORD_BYTES); // Reused by record()
+    private final int[] tree = new int[SCORE_BUCKETS + 1];   // Fenwick tree of game counts, 1-based
+    private final Entry[] top = new Entry[TOP_K];            // Best games, best first
+    private int topCount = 0;
+    private long games = 0;
+
+    /**
+     * Opens a leaderboard file, creating it if needed, and rebuilds the rank index and top-K from it.
+     *
+     * @param file The leaderboard file.
+     * @throws IOException If the file cannot be read or is not a leaderboard.
+     */
+    public Leaderboard(File file) throws IOException {
+        this.file = file;
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).flip();
+                channel.write(header, 0);
+            }
+            rebuild();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the leaderboard for a board size, opening it on a background thread the first time it is
+     * asked for. The file is mindmatch-leaderboard-<rows>x<columns>.dat in the working directory, or in
+     * -Dmindmatch.leaderboardDir=<directory>.
+     *
+     * @param rows    The board rows.
+     * @param columns The board columns.
+     * @return Completes with the leaderboard, or exceptionally if the file cannot be opened.
+     */
+    public static CompletableFuture<Leaderboard> forBoard(int rows, int columns) {
+        String name = "mindmatch-leaderboard-" + rows + "x" + columns + ".dat";
+        return OPENED.computeIfAbsent(name, key -> CompletableFuture.supplyAsync(() -> {
+            File file = new File(System.getProperty("mindmatch.leaderboardDir", "."), key);
+            try {
+                return new Leaderboard(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, AssetLoader.WORKERS));
+    }
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 1 ? Integer.parseInt(args[0]) : 4;
+        int columns = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        File file = new File(System.getProperty("mindmatch.leaderboardDir", "."),
+                "mindmatch-leaderboard-" + rows + "x" + columns + ".dat");
+
+        long start = System.nanoTime();
+        Leaderboard leaderboard = new Leaderboard(file);
+        System.out.printf("%d games loaded from %s in %.1f ms%n", leaderboard.size(), file,
+                (System.nanoTime() - start) / 1e6);
+        List<Entry> best = leaderboard.top(10);
+        for (int i = 0; i < best.size(); i++) {
+            System.out.println((i + 1) + ". " + best.get(i));
+        }
+        leaderboard.close();
+    }
+
+    /**
+     * Records a finished game: appends it to the file and adds it to the index.
+     *
+     * @param score  The final score.
+     * @param errors The number of errors.
+     * @return The game's rank, 1 being the best.
+     * @throws UncheckedIOException If the record could not be written.
+     */
+    public synchronized int record(int score, int errors) {
+        long now = System.currentTimeMillis();
+        recordBuffer.clear();
+        recordBuffer.putInt(score).putInt(errors).putLong(now).flip();
+        try {
+            long position = HEADER_SIZE + games * RECORD_BYTES;
+            while (recordBuffer.hasRemaining()) {
+                position += channel.write(recordBuffer, position);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        add(score, errors, now);
+        return rankOf(score);
+    }
+
+    /**
+     * Returns the rank a game with the given score has: one more than the number of games that scored higher.
+     *
+     * @param score The score.
+     * @return The rank, 1 being the best.
+     */
+    public synchronized int rankOf(int score) {
+        return 1 + prefixCount(bucketOf(score) - 1);
+    }
+
+    /**
+     * Returns the best games, best first.
+     *
+     * @param k The number of games wanted, at most TOP_K.
+     * @return Up to k games.
+     */
+    public synchronized List<Entry> top(int k) {
+        List<Entry> best = new ArrayList<>(Math.min(k, topCount));
+        for (int i = 0; i < Math.min(k, topCount); i++) {
+            best.add(top[i]);
+        }
+        return best;
+    }
+
+    /**
+     * Returns the number of recorded games.
+     *
+     * @return The number of games.
+     */
+    public synchronized long size() {
+        return games;
+    }
+
+    /**
+     * Closes the file. Recorded games are already written.
+     */
+    public synchronized void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Leaderboard close failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads every complete record from the file, counting scores into a plain histogram and keeping
+     * the best games, then turns the histogram into the Fenwick tree in linear time.
+     */
+    private void rebuild() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException(file + " is not a leaderboard");
+        }
+
+        long end = HEADER_SIZE + (channel.size() - HEADER_SIZE) / RECORD_BYTES * RECORD_BYTES;
+        for (long windowStart = HEADER_SIZE; windowStart < end; windowStart += SCAN_WINDOW) {
+            long length = Math.min(SCAN_WINDOW, end - windowStart);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+            for (int offset = 0; offset < length; offset += RECORD_BYTES) {
+                int score = window.getInt(offset);
+                tree[bucketOf(score) + 1]++;
+                if (topCount < TOP_K || score > top[TOP_K - 1].score) {
+                    insertTop(new Entry(score, window.getInt(offset + 4), window.getLong(offset + 8)));
+                }
+            }
+        }
+        games = (end - HEADER_SIZE) / RECORD_BYTES;
+
+        for (int i = 1; i <= SCORE_BUCKETS; i++) {
+            int parent = i + (i & -i);
+            if (parent <= SCORE_BUCKETS) tree[parent] += tree[i];
+        }
+    }
+
+    private void add(int score, int errors, long finishedMillis) {
+        games++;
+        for (int i = bucketOf(score) + 1; i <= SCORE_BUCKETS; i += i & -i) {
+            tree[i]++;
+        }
+        if (topCount < TOP_K || score > top[TOP_K - 1].score) {
+            insertTop(new Entry(score, errors, finishedMillis));
+        }
+    }
+
+    /**
+     * Inserts a game into the top array after every game with the same or a better score.
+     */
+    private void insertTop(Entry entry) {
+        int i = Math.min(topCount, TOP_K - 1);
+        while (i > 0 && top[i - 1].score < entry.score) {
+            top[i] = top[i - 1];
+            i--;
+        }
+        top[i] = entry;
+        if (topCount < TOP_K) topCount++;
+    }
+
+    /**
+     * Returns the number of games in buckets 0 to bucket, inclusive.
+     */
+    private int prefixCount(int bucket) {
+        int count = 0;
+        for (int i = bucket + 1; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Maps a score to its bucket, 0 for START_SCORE (or more) and higher buckets for lower scores.
+     */
+    private static int bucketOf(int score) {
+        long bucket = (long) GameEngine.START_SCORE - score;
+        return (int) Math.max(0, Math.min(SCORE_BUCKETS - 1, bucket));
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * LeaderboardTester Class
+ * -
+ * Description: Tests the Leaderboard. Ranks and the top 100 must agree with a brute-force sort of the
+ * same games, survive reopening the file, and ignore a partly written record. A large leaderboard file
+ * (tens of millions of games by default) is then rebuilt and queried to check that startup and queries
+ * stay fast. Runs without a display (java -ea LeaderboardTester [games]).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class LeaderboardTester {
+
+    // Rebuild and query budgets for the large leaderboard, per million games and per query
+    static final double REBUILD_MILLIS_PER_MILLION = 100;
+    static final double QUERY_MICROS = 10;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Leaderboard Tester...");
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000_000;
+
+        File file = File.createTempFile("mindmatch-leaderboard-test", ".dat");
+        file.delete();
+        file.deleteOnExit();
+
+        int[] scores = testRanksMatchSortedScores(file);
+        testReopenAndTornRecord(file, scores);
+        testLargeLeaderboard(games);
+
+        System.out.println("All leaderboard tests completed successfully.");
+    }
+
+    /**
+     * Records random games and compares every rank and the top 100 with a sorted copy of the scores.
+     *
+     * @return The recorded scores, in recording order.
+     */
+    public static int[] testRanksMatchSortedScores(File file) throws IOException {
+        System.out.println("Testing ranks against sorted scores...");
+
+        SplittableRandom random = new SplittableRandom(3);
+        Leaderboard leaderboard = new Leaderboard(file);
+        int[] scores = new int[5000];
+        for (int i = 0; i < scores.length; i++) {
+            int errors = random.nextInt(60);
+            scores[i] = GameEngine.START_SCORE - errors;
+            int rank = leaderboard.record(scores[i], errors);
+            assert rank == 1 + countHigher(scores, i + 1, scores[i]) : "Rank of game " + i + " is wrong.";
+        }
+        assertSameTop(leaderboard, scores);
+        leaderboard.close();
+
+        System.out.println("Ranks and top 100 are correct.");
+        return scores;
+    }
+
+    /**
+     * Reopens the file, which must rebuild the same index, then appends half a record and checks it is ignored.
+     */
+    public static void testReopenAndTornRecord(File file, int[] scores) throws IOException {
+        System.out.println("Testing reopen and torn record...");
+
+        Leaderboard reopened = new Leaderboard(file);
+        assert reopened.size() == scores.length : "Reopened leaderboard has " + reopened.size() + " games.";
+        assertSameTop(reopened, scores);
+        for (int score = GameEngine.START_SCORE; score > GameEngine.START_SCORE - 70; score--) {
+            assert reopened.rankOf(score) == 1 + countHigher(scores, scores.length, score) : "Rank of " + score + " changed.";
+        }
+        reopened.close();
+
+        try (RandomAccessFile raw = new RandomAccessFile(file, "rw")) {
+            raw.seek(raw.length());
+            raw.writeInt(GameEngine.START_SCORE); // Score of a record that never finished
+        }
+        Leaderboard recovered = new Leaderboard(file);
+        assert recovered.size() == scores.length : "Torn record was counted.";
+        recovered.record(GameEngine.START_SCORE - 1, 1);
+        recovered.close();
+        recovered = new Leaderboard(file);
+        assert recovered.size() == scores.length + 1 : "Game after the torn record was lost.";
+        recovered.close();
+
+        System.out.println("Reopened index matches, torn record ignored.");
+    }
+
+    /**
+     * Writes a large leaderboard file directly, then times the rebuild and the rank and top 100 queries.
+     */
+    public static void testLargeLeaderboard(int games) throws IOException {
+        System.out.println("Testing a leaderboard with " + games + " games...");
+
+        File file = File.createTempFile("mindmatch-leaderboard-large", ".dat");
+        file.deleteOnExit();
+        writeRandomGames(file, games);
+
+        long start = System.nanoTime();
+        Leaderboard leaderboard = new Leaderboard(file);
+        double rebuildMillis = (System.nanoTime() - start) / 1e6;
+        assert leaderboard.size() == games : "Large leaderboard has " + leaderboard.size() + " games.";
+
+        SplittableRandom random = new SplittableRandom(5);
+        int queries = 1_000_000;
+        long sink = 0;
+        for (int round = 0; round < 2; round++) { // First round warms up
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                sink += leaderboard.rankOf(GameEngine.START_SCORE - random.nextInt(80));
+            }
+        }
+        double rankMicros = (System.nanoTime() - start) / 1e3 / queries;
+
+        for (int round = 0; round < 2; round++) {
+            start = System.nanoTime();
+            for (int i = 0; i < queries / 10; i++) {
+                sink += leaderboard.top(Leaderboard.TOP_K).size();
+            }
+        }
+        double topMicros = (System.nanoTime() - start) / 1e3 / (queries / 10);
+
+        start = System.nanoTime();
+        leaderboard.record(GameEngine.START_SCORE - 10, 10);
+        double recordMicros = (System.nanoTime() - start) / 1e3;
+        leaderboard.close();
+        file.delete();
+
+        System.out.printf("Rebuild: %.1f ms (%.1f ms per million games), %.1f MB file%n", rebuildMillis,
+                rebuildMillis * 1e6 / games, games * 16.0 / 1048576);
+        System.out.printf("Rank query: %.3f us, top 100: %.3f us, record: %.1f us (checksum %d)%n",
+                rankMicros, topMicros, recordMicros, sink % 10);
+        assert rebuildMillis * 1e6 / games <= REBUILD_MILLIS_PER_MILLION : "Rebuild is too slow.";
+        assert rankMicros <= QUERY_MICROS && topMicros <= QUERY_MICROS : "Queries are too slow.";
+    }
+
+    /**
+     * Writes a leaderboard file of random games in large blocks.
+     */
+    static void writeRandomGames(File file, int games) throws IOException {
+        SplittableRandom random = new SplittableRandom(11);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer block = ByteBuffer.allocateDirect(1 << 20);
+            block.putInt(Leaderboard.MAGIC).putInt(Leaderboard.VERSION).putLong(0);
+            long millis = System.currentTimeMillis() - games;
+            for (int i = 0; i < games; i++) {
+                if (!block.hasRemaining()) {
+                    block.flip();
+                    while (block.hasRemaining()) channel.write(block);
+                    block.clear();
+                }
+                int errors = random.nextInt(15) + random.nextInt(15) + random.nextInt(15);
+                block.putInt(GameEngine.START_SCORE - errors).putInt(errors).putLong(millis + i);
+            }
+            block.flip();
+            while (block.hasRemaining()) channel.write(block);
+        }
+    }
+
+    private static int countHigher(int[] scores, int count, int score) {
+        int higher = 0;
+        for (int i = 0; i < count; i++) {
+            if (scores[i] > score) higher++;
+        }
+        return higher;
+    }
+
+    /**
+     * Checks the top 100 against a stable sort of the scores (best first, earlier game first).
+     */
+    private static void assertSameTop(Leaderboard leaderboard, int[] scores) {
+        Integer[] order = new Integer[scores.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Integer.compare(scores[b], scores[a])); // Stable, keeps earlier games first
+
+        List<Leaderboard.Entry> top = leaderboard.top(Leaderboard.TOP_K);
+        assert top.size() == Math.min(Leaderboard.TOP_K, scores.length) : "Top list has " + top.size() + " games.";
+        for (int i = 0; i < top.size(); i++) {
+            assert top.get(i).score == scores[order[i]] : "Top game " + i + " has the wrong score.";
+            assert top.get(i).errors == GameEngine.START_SCORE - scores[order[i]] : "Top game " + i + " is the wrong game.";
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/**
+ * LoadGenerator Class
+ * -
+ * Description: Drives a GameServer with many concurrent simulated players and reports move latency.
+ * Every player opens its own connection, deals a game, waits until all players are connected, then
+ * plays to the end with perfect memory, timing the round trip of each FLIP. A FLIP the server ignores
+ * (against a server with a hide delay, while a mismatch is still showing) is not a move: its round trip
+ * is not recorded, and the player backs off before trying again instead of spinning. Starts its own
+ * server (with no hide delay) unless a host and port are given.
+ * Usage: java LoadGenerator [players] [games per player] [host port]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadGenerator {
+
+    // Wait after an IGNORED reply, doubled while the server keeps ignoring the player's flips
+    static final long IGNORED_BACKOFF_MIN_MILLIS = 1;
+    static final long IGNORED_BACKOFF_MAX_MILLIS = 100;
+
+    public static void main(String[] args) throws Exception {
+        int players = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int gamesPerPlayer = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        GameServer server = null;
+        String host = "localhost";
+        int port;
+        if (args.length > 3) {
+            host = args[2];
+            port = Integer.parseInt(args[3]);
+        } else {
+            server = new GameServer(0, 0, players);
+            server.start();
+            port = server.getPort();
+        }
+
+        System.out.println("Starting " + players + " players, " + gamesPerPlayer + " games each, against "
+                + host + ":" + port + (GameServer.virtualThreadsAvailable() ? " (virtual threads)" : " (platform threads)"));
+        Result result = run(host, port, players, gamesPerPlayer, 4, 5);
+        System.out.println(result);
+
+        if (server != null) server.stop();
+    }
+
+    /**
+     * Move latencies over a whole run.
+     */
+    public static class Result {
+        long[] latencies;   // Nanoseconds per FLIP round trip, sorted
+        int players;
+        int failedPlayers;
+        long games;
+        double seconds;
+
+        public long percentile(double p) {
+            if (latencies.length == 0) return 0;
+            int index = (int) Math.ceil(p / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(latencies.length - 1, index))];
+        }
+
+        @Override
+        public String toString() {
+            return String.format(java.util.Locale.ROOT,
+                    "%d players (%d failed), %d games, %d moves in %.2f s (%.0f moves/s)%n"
+                            + "Move latency: p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+                    players, failedPlayers, games, latencies.length, seconds, latencies.length / seconds,
+                    percentile(50) / 1e6, percentile(99) / 1e6, percentile(100) / 1e6);
+        }
+    }
+
+    /**
+     * Connects all players, then releases them together and waits for every game to finish.
+     *
+     * @param host           The server host.
+     * @param port           The server port.
+     * @param players        The number of concurrent players (one connection each).
+     * @param gamesPerPlayer The games each player plays.
+     * @param rows           The board rows.
+     * @param columns        The board columns.
+     * @return The merged latencies.
+     * @throws InterruptedException If interrupted while waiting for the players.
+     */
+    public static Result run(String host, int port, int players, int gamesPerPlayer, int rows, int columns)
+            throws InterruptedException {
+        long[][] latencies = new long[players][];
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch connected = new CountDownLatch(players);
+        CountDownLatch go = new CountDownLatch(1);
+        boolean[] arrived = new boolean[players];
+
+        ExecutorService executor = GameServer.newThreadPerTaskExecutor();
+        for (int i = 0; i < players; i++) {
+            int player = i;
+            executor.execute(() -> {
+                try {
+                    latencies[player] = play(host, port, player, gamesPerPlayer, rows, columns, arrived, connected, go);
+                } catch (IOException | RuntimeException e) {
+                    failed.incrementAndGet();
+                    latencies[player] = new long[0];
+                    if (!arrived[player]) connected.countDown(); // Don't hold back the others
+                }
+            });
+        }
+        connected.await();
+        long start = System.nanoTime();
+        go.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.HOURS);
+
+        Result result = new Result();
+        result.seconds = (System.nanoTime() - start) / 1e9;
+        result.players = players;
+        result.failedPlayers = failed.get();
+        result.games = (long) (players - failed.get()) * gamesPerPlayer;
+        result.latencies = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        return result;
+    }
+
+    /**
+     * Plays one player's games on one connection.
+     *
+     * @return The round-trip time of every FLIP in nanoseconds.
+     */
+    static long[] play(String host, int port, int player, int games, int rows, int columns,
+                       boolean[] arrived, CountDownLatch connected, CountDownLatch go) throws IOException {
+        int tiles = rows * columns;
+        long[] latencies = new long[games * tiles * 4];
+        int moves = 0;
+        SplittableRandom random = new SplittableRandom(player);
+
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII)) {
+            socket.setTcpNoDelay(true);
+            int[] known = new int[tiles];       // Card id seen at each position, or -1
+            boolean[] matched = new boolean[tiles];
+
+            for (int game = 0; game < games; game++) {
+                out.println("NEW " + rows + " " + columns + " " + random.nextLong());
+                expect(in.readLine(), "OK");
+                if (game == 0) {
+                    arrived[player] = true;
+                    connected.countDown();
+                    try {
+                        go.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return Arrays.copyOf(latencies, moves);
+                    }
+                }
+                Arrays.fill(known, -1);
+                Arrays.fill(matched, false);
+
+                int first = -1;
+                boolean over = false;
+                long backoffMillis = IGNORED_BACKOFF_MIN_MILLIS;
+                while (!over) {
+                    int position = choose(known, matched, first, random);
+                    long sent = System.nanoTime();
+                    out.println("FLIP " + position);
+                    String reply = in.readLine();
+                    long latency = System.nanoTime() - sent;
+
+                    String[] parts = expect(reply, null);
+                    if (parts[0].equals("IGNORED")) {
+                        // The mismatch is still showing, wait for the hide delay rather than flood the server
+                        try {
+                            Thread.sleep(backoffMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return Arrays.copyOf(latencies, moves);
+                        }
+                        backoffMillis = Math.min(backoffMillis * 2, IGNORED_BACKOFF_MAX_MILLIS);
+                        continue;
+                    }
+                    backoffMillis = IGNORED_BACKOFF_MIN_MILLIS;
+                    if (moves == latencies.length) latencies = Arrays.copyOf(latencies, moves * 2);
+                    latencies[moves++] = latency;
+                    known[position] = Integer.parseInt(parts[1]);
+                    if (parts[0].equals("FIRST")) {
+                        first = position;
+                    } else {
+                        if (!parts[0].equals("MISMATCH")) {
+                            matched[first] = true;
+                            matched[position] = true;
+                        }
+                        over = parts[0].equals("OVER");
+                        first = -1;
+                    }
+                }
+            }
+            out.println("QUIT");
+            in.readLine();
+        }
+        return Arrays.copyOf(latencies, moves);
+    }
+
+    /**
+     * Chooses the next tile with perfect memory: completes a known pair when possible, otherwise
+     * turns an unseen tile.
+     */
+    static int choose(int[] known, boolean[] matched, int first, SplittableRandom random) {
+        int tiles = known.length;
+        if (first >= 0) {
+            for (int i = 0; i < tiles; i++) {
+                if (i != first && !matched[i] && known[i] == known[first]) return i;
+            }
+        } else {
+            for (int i = 0; i < tiles; i++) {
+                if (matched[i] || known[i] < 0) continue;
+                for (int j = i + 1; j < tiles; j++) {
+                    if (!matched[j] && known[j] == known[i]) return i;
+                }
+            }
+        }
+        int unseen = 0;
+        for (int i = 0; i < tiles; i++) {
+            if (!matched[i] && i != first && known[i] < 0) unseen++;
+        }
+        int pick = unseen == 0 ? 0 : random.nextInt(unseen);
+        for (int i = 0; i < tiles; i++) {
+            if (!matched[i] && i != first && known[i] < 0 && pick-- == 0) return i;
+        }
+        for (int i = 0; i < tiles; i++) {
+            if (!matched[i] && i != first) return i;
+        }
+        return 0;
+    }
+
+    private static String[] expect(String reply, String prefix) throws IOException {
+        if (reply == null || reply.startsWith("ERR") || (prefix != null && !reply.startsWith(prefix))) {
+            throw new IOException("Unexpected reply: " + reply);
+        }
+        return reply.split(" ");
+    }
+}
@@ -4,6 +4,16 @@
  * Description: The main game logic for the memory-matching card game. This class is responsible
  * for setting up the game board, shuffling and displaying the cards, and handling user interactions.
  * The game tracks and displays the player's error count and provides a restart option.
+ * The game is a view of the AppWindow (the board view); when it is over the window switches to its
+ * results view, and playing the same board size again reuses this game with a new deal.
+ * Any even number of tiles up to 100x100 can be played. Boards larger than the window scroll, and
+ * when there are more pairs than card images the images are reused with a pair number on each card.
+ * Only the card back is loaded before the board appears; each face image is loaded the first time a
+ * card showing it comes into view.
+ * A game can also be built hidden, as the IntroGUI's GamePreloader does while the menu is showing: every
+ * face is then loaded up front and the game (preview, hide timer and game log) only starts once show()
+ * puts the board on screen.
+ * The card images come from a Theme, the one selected in the ThemeRegistry when the game is built.
  * -
  * Version: [V11]
  * Author: [Romeo Maunick - RM]
@@ -13,93 +23,145 @@
 import java.awt.*;      // GUI components
 import java.awt.event.*; // Event handling
 import java.util.ArrayList; // Store cards
+import java.util.concurrent.CompletableFuture; // Background asset loading
 import javax.swing.*;    // GUI components
 
 public class MatchCards {
 
-    // Array of card names used to generate the deck
-    String[] cardList = {
-            "beerus1", "broly1", "cell-max1", "frieza1", "gohan1",
-            "goku1", "jiren1", "marjinBuu1", "piccolo1", "vegeta1"
-    };
+    // Card faces and back used to generate the deck
+    final Theme theme;
+
+    // Largest board that can be played
+    static final int MAX_TILES = 100 * 100;
+
+    // How long the cards stay face-up at the start and after a mismatch
+    static final long HIDE_DELAY_MILLIS = 1000;
 
     // Game settings for grid layout and card dimensions
-    int rows = 4;
-    int columns = 5;
+    int rows;
+    int columns;
     int cardWidth = 90;    //old 180
     int cardHeight = 128;   //old 220
 
-    // Deck of cards for the game and back image for face-down cards
+    // Distinct cards indexed by face (card id modulo the number of faces), the board order of the cards
+    // and back image for face-down cards. A card's image is null until its face has been loaded.
+    ArrayList<Card> deck;
     ArrayList<Card> cardSet;
     ImageIcon cardBackImageIcon;
 
-    // Calculated board dimensions based on grid settings
-    int boardWidth = columns * cardWidth;
-    int boardHeight = rows * cardHeight;
+    // Calculated size of the visible part of the board
+    int boardWidth;
+    int boardHeight;
 
-    // GUI components
-    JFrame frame = new JFrame("LizardBall Z Match Cards");
+    // GUI components, shown as the board view of the application window
+    AppWindow window = AppWindow.shared();
+    JPanel view = new JPanel(new BorderLayout());
     JLabel textLabel = new JLabel();
     JPanel textpanel = new JPanel();
-    JPanel boardPanel = new JPanel();
     JPanel restartGamePanel = new JPanel();
     JButton restartButton = new JButton();
 
-    // Game state variables
-    int errorCount = 0;
-    int matchedPairs = 0; // Tracks the number of matched pairs
-
-    int score = 100;      // Updates player score
-    ArrayList<JButton> board;     // Stores buttons for each card
-    Timer hideCardTimer;          // Timer to delay hiding unmatched cards
-    boolean gameReady = false;    // Tracks if the game is ready for player interaction
-    JButton card1Selected;        // First selected card
-    JButton card2Selected;        // Second selected card
+    // Game state (card ids, selection, errors and score) lives in the engine
+    GameEngine engine;
+    BoardPanel boardPanel;        // Paints the visible cards
+    JScrollPane boardScrollPane;  // Scrolls boards larger than the window
+    HideScheduler hideScheduler = SwingHideScheduler.INSTANCE; // Runs the hide delay on the EDT
+    HideScheduler.Handle pendingHide; // Scheduled hide of the preview or a mismatched pair, if any
+    GameRecorder recorder = new GameRecorder(GameLog.shared()); // Writes every game to the game log
+    GameMetrics metrics = GameMetrics.shared(); // Counters and click latencies, published over JMX
+    CompletableFuture<Leaderboard> leaderboard;  // Loads in the background
+    CompletableFuture<String> lastStanding = CompletableFuture.completedFuture(""); // Rank text of the last finished game
+
+    // Startup tracking, the board is shown before the images finish loading
+    long startNanos;              // When the constructor started, or when Play was pressed for a preloaded game
+    long interactiveNanos;        // Time from startNanos until the card faces were on the board
+    CompletableFuture<Void> ready = new CompletableFuture<>(); // Completed once the deck is on the board
+    boolean shown;                // The board has been put on screen
+    boolean started;              // The preview and the game log have started
 
     /**
-     * Constructor for MatchCards. Initializes the game setup, shuffles the deck,
-     * sets up the GUI layout, and prepares game components.
+     * Constructor for MatchCards with the standard 4x5 board.
      */
     public MatchCards() {
-        setupCards();  // Initialize the card deck
-        shuffleCards(); // Shuffle the cards for random order
+        this(4, 5);
+    }
+
+    /**
+     * Constructor for MatchCards. Starts loading the card back in the background, shuffles the cards,
+     * sets up the GUI layout, and prepares game components. The board is shown straight away
+     * in a loading state and the cards appear once the back image is ready.
+     *
+     * @param rows    The number of card rows.
+     * @param columns The number of card columns, rows * columns must be even and at most MAX_TILES.
+     */
+    public MatchCards(int rows, int columns) {
+        this(rows, columns, true);
+    }
+
+    /**
+     * Constructor for MatchCards that can build the game without showing it. A hidden game loads the card
+     * back and every face in the background and waits for show().
+     *
+     * @param rows    The number of card rows.
+     * @param columns The number of card columns, rows * columns must be even and at most MAX_TILES.
+     * @param visible True to show the board straight away, false to wait for show().
+     */
+    MatchCards(int rows, int columns, boolean visible) {
+        this(rows, columns, ThemeRegistry.shared().current(), visible);
+    }
 
-        // Configure frame settings
-        frame.setLayout(new BorderLayout());
-        frame.setSize(boardWidth, boardHeight);
-        frame.setLocationRelativeTo(null);  // Center the window on screen
-        frame.setResizable(false);
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+    /**
+     * Constructor for MatchCards with the cards of a given theme.
+     *
+     * @param rows    The number of card rows.
+     * @param columns The number of card columns, rows * columns must be even and at most MAX_TILES.
+     * @param theme   The card faces and back.
+     * @param visible True to show the board straight away, false to wait for show().
+     */
+    MatchCards(int rows, int columns, Theme theme, boolean visible) {
+        long tiles = (long) rows * columns; // Long, so huge sizes cannot wrap around
+        if (rows <= 0 || columns <= 0 || tiles > MAX_TILES || tiles % 2 != 0) {
+            throw new IllegalArgumentException("Board must have an even number of cards, at most " + MAX_TILES);
+        }
+        startNanos = System.nanoTime();
+        EdtWatchdog.shared(); // Already running when launched from App, started here otherwise
+        this.rows = rows;
+        this.columns = columns;
+        this.theme = theme;
+        engine = new GameEngine(rows * columns / 2);
+        boardPanel = new BoardPanel(engine, rows, columns, cardWidth, cardHeight);
+        leaderboard = Leaderboard.forBoard(rows, columns);
+        Dimension viewport = boardPanel.getPreferredScrollableViewportSize();
+        boardWidth = viewport.width;
+        boardHeight = viewport.height;
+
+        // Shuffle first: setupCards lays the cards out in the engine's order and may run as soon as
+        // the back is loaded, which is at once when it is cached
+        engine.shuffle();
+
+        // Decode and scale the card back on a worker thread, then set up the board on the EDT. If the back
+        // cannot be loaded the game still starts, with blank backs.
+        theme.loadBack(cardWidth, cardHeight)
+                .exceptionally(e -> {
+                    System.err.println("Card back could not be loaded: " + e);
+                    return blankBack();
+                })
+                .thenAccept(back -> SwingUtilities.invokeLater(() -> setupCards(back)));
 
         // Setup error display at the top
         textLabel.setFont(new Font("Arial", Font.PLAIN, 20));
         textLabel.setHorizontalAlignment(JLabel.CENTER);
-        textLabel.setText("Errors: " + errorCount);
+        textLabel.setText("Loading...");
         textpanel.setPreferredSize(new Dimension(boardWidth, 30));
         textpanel.add(textLabel);
-        frame.add(textpanel, BorderLayout.NORTH);
-
-        // Initialize the card game board
-        board = new ArrayList<>();
-        boardPanel.setLayout(new GridLayout(rows, columns));
-        for (int i = 0; i < cardSet.size(); i++) {  // Create button for each card
-            JButton tile = new JButton();
-            tile.setPreferredSize(new Dimension(cardWidth, cardHeight));
-            tile.setOpaque(true);
-            tile.setIcon(cardSet.get(i).cardImageIcon); // Set card image icon
-            tile.setFocusable(false);
-
-            // Add ActionListener for each card button
-            tile.addActionListener(new ActionListener() {
-                @Override
-                public void actionPerformed(ActionEvent e) {
-                    handleCardClick((JButton) e.getSource());
-                }
-            });
-            board.add(tile);
-            boardPanel.add(tile);
-        }
-        frame.add(boardPanel);
+        view.add(textpanel, BorderLayout.NORTH);
+
+        // Initialize the card game board, clicks arrive as board positions
+        boardPanel.setTileClickListener(this::handleCardClick);
+        boardPanel.setFaceRequestListener(this::loadFace);
+        boardScrollPane = new JScrollPane(boardPanel);
+        boardScrollPane.setBorder(null);
+        view.add(boardScrollPane, BorderLayout.CENTER);
 
         // Restart button setup
         restartButton.setFont(new Font("Arial", Font.PLAIN, 16));
@@ -114,207 +176,264 @@ public class MatchCards {
             }
         });
         restartGamePanel.add(restartButton);
-        frame.add(restartGamePanel, BorderLayout.SOUTH);
+        view.add(restartGamePanel, BorderLayout.SOUTH);
 
-        frame.pack(); // Recalculate window size
-        frame.setVisible(true);
-
-        // Initialize timer for hiding unmatched cards after a delay
-        hideCardTimer = new Timer(1000, new ActionListener() {
-            @Override
-            public void actionPerformed(ActionEvent e) {
-                hideCards();
-            }
-        });
-        hideCardTimer.setRepeats(false);
-        hideCardTimer.start();
+        if (visible) {
+            show(startNanos);
+        }
     }
 
     /**
-     * Initializes the deck by creating Card objects with a name and image for each type of card.
+     * Shows the board in the application window and starts the game once its cards are ready. A game
+     * that has been played before deals a new game on the same board. Runs on the EDT.
+     *
+     * @param playNanos When the player asked for the game (System.nanoTime), the start of the
+     *                  Play-to-board time.
      */
-    private void setupCards() {
-        cardSet = new ArrayList<>();
-        for (String cardName : cardList) {
-            // Load card image and scale it to specified dimensions
-            Image cardImg = new ImageIcon("src/img2/" + cardName + ".jpg").getImage();
-            ImageIcon cardImageIcon = new ImageIcon(cardImg.getScaledInstance(cardWidth, cardHeight, Image.SCALE_SMOOTH));
-
-            // Create and add the card to the cardSet
-            Card card = new Card(cardName, cardImageIcon);
-            cardSet.add(card);
+    void show(long playNanos) {
+        startNanos = playNanos;
+        shown = true;
+        window.showBoard(this);
+        if (started) {
+            newGame();
+            timePlayToBoard();
+        } else {
+            startGame();
         }
-        cardSet.addAll(cardSet); // Duplicate cards to create pairs
-
-        // Load and set the back image for face-down cards
-        Image cardBackImg = new ImageIcon("src/img2/backCard2.jpg").getImage();
-        cardBackImageIcon = new ImageIcon(cardBackImg.getScaledInstance(cardWidth, cardHeight, Image.SCALE_SMOOTH));
     }
 
     /**
-     * Shuffles the cardSet to randomize card positions on the board.
+     * Stops a game that is leaving the window or was never shown, for example a preloaded game the
+     * player did not pick. An unfinished game is recorded as abandoned.
      */
-    public void shuffleCards() {
-        for (int i = 0; i < cardSet.size(); i++) {
-            int j = (int) (Math.random() * cardSet.size());
-            // Swap cards
-            Card temp = cardSet.get(i);
-            cardSet.set(i, cardSet.get(j));
-            cardSet.set(j, temp);
+    void dispose() {
+        if (pendingHide != null) {
+            pendingHide.cancel();
         }
+        recorder.endGame(engine.errorCount, engine.score, false);
     }
 
     /**
-     * Handles the click event for each card, checking if two cards match or not.
-     * @param tile The button representing the selected card.
+     * Puts the cards on the board face-up and starts the game if the window is showing.
+     * Runs on the EDT once the card back has loaded; the faces are loaded as the board paints them,
+     * or all at once for a hidden game.
+     *
+     * @param back The image for face-down cards.
      */
-    private void handleCardClick(JButton tile) {
-        if (!gameReady || tile.getIcon() != cardBackImageIcon) return;
-
-        if (card1Selected == null) {
-            // Select first card
-            card1Selected = tile;
-            int index = board.indexOf(card1Selected);
-            card1Selected.setIcon(cardSet.get(index).cardImageIcon);
-        } else if (card2Selected == null) {
-            // Select second card
-            card2Selected = tile;
-            int index = board.indexOf(card2Selected);
-            card2Selected.setIcon(cardSet.get(index).cardImageIcon);
-
-            // Check for match
-            if (!card1Selected.getIcon().equals(card2Selected.getIcon())) {
-                errorCount++;
-                score -= 1;
-                textLabel.setText("Errors: " + errorCount);
-                hideCardTimer.start(); // Hide cards after delay
-            } else {
-                // Cards match, reset selections
-                card1Selected = null;
-                card2Selected = null;
-                matchedPairs++;
-
-                // Check if all pairs are matched
-                if (matchedPairs == cardSet.size() / 2) {
-                    showGameOverPopup(); // Trigger Game Over popup
-                }
+    void setupCards(ImageIcon back) {
+        cardBackImageIcon = back;
+
+        // One card per face image, shared by every pair that uses the face
+        int faces = Math.min(theme.faceCount(), engine.pairCount);
+        deck = new ArrayList<>(faces);
+        for (int face = 0; face < faces; face++) {
+            deck.add(new Card(face, theme.faceName(face), null));
+        }
+
+        // Board order of the cards, each card appears twice
+        cardSet = new ArrayList<>();
+        layOutCards(cardSet, deck, engine);
+
+        boardPanel.setIcons(new ImageIcon[faces], cardBackImageIcon);
+        textLabel.setText("Errors: " + engine.errorCount);
+
+        if (shown) {
+            ready.complete(null);
+            startGame();
+        } else {
+            // Hidden, so nothing is painted yet: load every face now so the board is complete when shown
+            CompletableFuture<?>[] loading = new CompletableFuture<?>[faces];
+            for (int face = 0; face < faces; face++) {
+                loading[face] = loadFace(face);
             }
+            CompletableFuture.allOf(loading).thenRun(() -> {
+                ready.complete(null);
+                startGame();
+            });
         }
     }
 
     /**
-     * Displays a game-over popup when all cards are matched.
+     * Returns a plain grey card back, used when the back image cannot be loaded.
      */
-    JDialog showGameOverPopup() {
-        JDialog gameOverDialog = new JDialog(frame, "Game Over", true);
-        gameOverDialog.setLayout(new BorderLayout());
-        gameOverDialog.setSize(300, 200);
-
-
-        // Main message panel
-        JPanel messagePanel = new JPanel();
-        messagePanel.setLayout(new BoxLayout(messagePanel, BoxLayout.Y_AXIS));
-
-        // Add Game Over message
-        JLabel gameOverLabel = new JLabel("Game Over!");
-        gameOverLabel.setFont(new Font("Arial", Font.BOLD, 18));
-        gameOverLabel.setHorizontalAlignment(SwingConstants.CENTER); // Center text
-        gameOverLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        messagePanel.add(gameOverLabel);
-
-        // Add Errors message
-        JLabel errorsLabel = new JLabel("Errors: " + errorCount);
-        errorsLabel.setFont(new Font("Arial", Font.PLAIN, 16));
-        errorsLabel.setHorizontalAlignment(SwingConstants.CENTER); // Center text
-        errorsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        messagePanel.add(errorsLabel);
-
-        // Add Well done message
-        JLabel wellDoneLabel = new JLabel("Well done!");
-        wellDoneLabel.setFont(new Font("Arial", Font.PLAIN, 16));
-        wellDoneLabel.setHorizontalAlignment(SwingConstants.CENTER); // Center text
-        wellDoneLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        messagePanel.add(wellDoneLabel);
-
-        // Add Score message
-        JLabel scoreLabel = new JLabel("Score: " + score);
-        scoreLabel.setFont(new Font("Arial", Font.PLAIN, 16));
-        scoreLabel.setHorizontalAlignment(SwingConstants.CENTER); // Center text
-        scoreLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-        messagePanel.add(scoreLabel);
-
-        // Add spacing between labels
-        messagePanel.add(Box.createRigidArea(new Dimension(0, 20)));
-
-        gameOverDialog.add(messagePanel, BorderLayout.CENTER);
-
-        // Add Restart button
-        JButton restartButton = new JButton("Restart");
-        restartButton.addActionListener(e -> {
-            gameOverDialog.dispose();
-            restartGame();
-        });
+    private ImageIcon blankBack() {
+        java.awt.image.BufferedImage image = new java.awt.image.BufferedImage(cardWidth, cardHeight,
+                java.awt.image.BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.GRAY);
+        g.fillRect(0, 0, cardWidth, cardHeight);
+        g.dispose();
+        return new ImageIcon(image);
+    }
 
-        // Add Close button
-        JButton closeButton = new JButton("Close");
-        closeButton.addActionListener(e -> {
-            gameOverDialog.dispose();
-            frame.dispose(); // Close the game frame
-            new IntroGUI();  // Return to intro screen
-        });
+    /**
+     * Starts the face-up preview, the game log and the Play-to-board timing, once the board is
+     * showing and the cards are ready. Runs on the EDT.
+     */
+    private void startGame() {
+        if (started || !shown || !ready.isDone()) return;
+        started = true;
+        timePlayToBoard();
+        recorder.beginGame(engine.seed, rows, columns);
+        scheduleHide();
+    }
 
-        // Add buttons to the dialog
-        JPanel buttonPanel = new JPanel();
-        buttonPanel.add(restartButton);
-        buttonPanel.add(closeButton);
-        gameOverDialog.add(buttonPanel, BorderLayout.SOUTH);
+    private void timePlayToBoard() {
+        interactiveNanos = System.nanoTime() - startNanos;
+        boardPanel.timeNextPaint(0, startNanos, metrics.playToBoard); // First card painted
+    }
 
-        gameOverDialog.pack();
-        gameOverDialog.setLocationRelativeTo(frame);
-        gameOverDialog.setVisible(true);
+    /**
+     * Loads a face image on a worker thread and shows it once ready. Called by the board the first
+     * time a card with this face is painted.
+     *
+     * @param face The face index, also the face's index in the theme.
+     * @return Completed on the EDT once the face is on the board. A face that fails to load is shown
+     *         empty, like a missing image file, so a hidden game waiting on its faces always starts.
+     */
+    private CompletableFuture<Void> loadFace(int face) {
+        CompletableFuture<Void> shownOnBoard = new CompletableFuture<>();
+        theme.loadFace(face, cardWidth, cardHeight)
+                .whenComplete((icon, error) -> SwingUtilities.invokeLater(() -> {
+                    ImageIcon shown = icon;
+                    if (error != null) {
+                        System.err.println("Card face " + theme.faceName(face) + " could not be loaded: " + error);
+                        shown = new ImageIcon();
+                    }
+                    deck.get(face).cardImageIcon = shown;
+                    boardPanel.setFace(face, shown);
+                    shownOnBoard.complete(null);
+                }));
+        return shownOnBoard;
+    }
 
-        return gameOverDialog; // Return the dialog for testing
+    /**
+     * Shuffles the cardSet to randomize card positions on the board. Each deal gets its own
+     * seed (engine.seed), so the same board can be dealt again with engine.deal(seed).
+     */
+    public void shuffleCards() {
+        engine.shuffle();
+        layOutCards(cardSet, deck, engine);
     }
 
+    /**
+     * Fills the board order of the cards from the engine's card ids.
+     *
+     * @param cardSet The card at each board position, filled in place (grown if empty).
+     * @param deck    The distinct cards, card id c uses deck.get(c % deck.size()).
+     * @param engine  The engine holding the card id at each board position.
+     */
+    static void layOutCards(ArrayList<Card> cardSet, ArrayList<Card> deck, GameEngine engine) {
+        for (int i = 0; i < engine.size(); i++) {
+            Card card = deck.get(engine.cardAt(i) % deck.size());
+            if (i < cardSet.size()) {
+                cardSet.set(i, card);
+            } else {
+                cardSet.add(card);
+            }
+        }
+    }
 
+    /**
+     * Handles the click event for each card, checking if two cards match or not. The time spent here
+     * and the time until the card face is painted are recorded in the game metrics.
+     * @param position The board position of the selected card.
+     */
+    private void handleCardClick(int position) {
+        long start = System.nanoTime();
+        int result = engine.flip(position);
+        metrics.recordFlip(result);
+        if (result == GameEngine.IGNORED) return;
+
+        // Show the card face. The winning flip is not timed: the results view covers the board.
+        boardPanel.repaintTile(position);
+        if (result != GameEngine.GAME_OVER) {
+            boardPanel.timeNextPaint(position, boardPanel.clickNanos, metrics.clickToPaint);
+        }
+        recorder.flip(position, result);
+
+        if (result == GameEngine.MISMATCH) {
+            textLabel.setText("Errors: " + engine.errorCount);
+            scheduleHide(); // Hide cards after delay
+        } else if (result == GameEngine.GAME_OVER) {
+            recorder.endGame(engine.errorCount, engine.score, true);
+            recordOnLeaderboard(engine.score, engine.errorCount);
+            showResults(); // Switch to the results view
+        }
+        metrics.clickHandling.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Adds a finished game to the leaderboard off the EDT. The rank text is ready in lastStanding once
+     * the leaderboard has loaded and the game is written.
+     *
+     * @param score  The final score.
+     * @param errors The number of errors.
+     */
+    void recordOnLeaderboard(int score, int errors) {
+        lastStanding = leaderboard.thenApplyAsync(board -> {
+            int rank = board.record(score, errors);
+            return "Rank: " + rank + " of " + board.size();
+        }, AssetLoader.WORKERS).exceptionally(e -> "Rank unavailable");
+    }
+
+    /**
+     * Shows the results view of the application window when all cards are matched.
+     *
+     * @return The results view, for testing.
+     */
+    JPanel showResults() {
+        boardPanel.cancelTimedPaint(); // The board is not painted again until the next game
+        return window.showResults();
+    }
 
     /**
      * Hides unmatched cards by flipping them back to the back image.
      */
-    private void hideCards() {
-        if (gameReady && card1Selected != null && card2Selected != null) {
-            card1Selected.setIcon(cardBackImageIcon);
-            card2Selected.setIcon(cardBackImageIcon);
-            card1Selected = null;
-            card2Selected = null;
+    void hideCards() {
+        int card1Selected = engine.card1Selected;
+        int card2Selected = engine.card2Selected;
+        if (engine.resolve()) {
+            boardPanel.repaintTile(card1Selected);
+            boardPanel.repaintTile(card2Selected);
         } else {
-            for (JButton button : board) {
-                button.setIcon(cardBackImageIcon);
-            }
-            gameReady = true;
+            boardPanel.repaint(); // Every card turned face-down
             restartButton.setEnabled(true);
         }
     }
 
+    /**
+     * Restarts the game, from the restart button or the results view.
+     */
+    void restartGame() {
+        metrics.recordRestart();
+        newGame();
+    }
+
     /**
      * Resets the game by shuffling the cards and resetting all game variables.
      */
-    private void restartGame() {
-        gameReady = false;
+    private void newGame() {
+        recorder.endGame(engine.errorCount, engine.score, false); // Unfinished game is recorded as abandoned
+        boardPanel.cancelTimedPaint(); // A flip of the old game must not time the new game's first paint
+        engine.reset(); // Reset selections, matched pairs, errors and score
         restartButton.setEnabled(false);
-        card1Selected = null;
-        card2Selected = null;
-        matchedPairs = 0; // Reset matched pairs
         shuffleCards();
-        errorCount = 0;
-        score = 100;
-        textLabel.setText("Errors: " + errorCount);
+        recorder.beginGame(engine.seed, rows, columns);
+        textLabel.setText("Errors: " + engine.errorCount);
+        boardPanel.repaint(); // Show every card face-up
 
-        for (int i = 0; i < board.size(); i++) {
-            board.get(i).setIcon(cardSet.get(i).cardImageIcon);
-        }
+        scheduleHide();
+    }
 
-        hideCardTimer.start();
+    /**
+     * Hides the cards after the hide delay, replacing any hide still pending from before.
+     */
+    private void scheduleHide() {
+        if (pendingHide != null) {
+            pendingHide.cancel();
+        }
+        pendingHide = hideScheduler.schedule(this::hideCards, HIDE_DELAY_MILLIS);
     }
 
 }
@@ -1,208 +1,312 @@
 /**
  * MemoryTest Class
  * -
- * Description: A utility class to test memory usage of the game.
+ * Description: Memory profiler for the game. For each board size it builds real MatchCards games, shown
+ * in the application window with their faces loaded and painted, and measures the bytes the EDT allocates
+ * while setting up a game (using the per-thread allocation counter of com.sun.management.ThreadMXBean),
+ * the heap retained by a game, and the bytes allocated per card click through the board's click path
+ * (engine, game log, metrics, paint timing and the results view when a game ends). Each result is checked
+ * against a budget for that board size, and the process exits with status 1 if any budget is exceeded, so
+ * a build script running this class fails on a regression. It also measures the heap retained by the card
+ * images in the image cache, and compares a server-side PackedSession with a MatchCards game on the same
+ * 4x5 board. The card images are the built-in ones in src/img2, or generated images of the same names when
+ * the folder is missing. The game log and leaderboards go to a temporary folder.
+ * Usage: java MemoryTest
  * -
- * Version: [V11]
+ * Version: [V12]
  * Author: [Romeo Maunick - RM]
- * Date: [04/02/2025]
+ * Date: [17/10/2026]
  */
 
+import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
 
 public class MemoryTest {
 
-    public static void main(String[] args) {
-        // Running the performance and memory tests with different card sets
-        System.out.println("Running memory and performance tests...");
-
-        // Test memory usage and performance with small and large card sets
-        runMemoryTest(4);   // Small set of cards (4 pairs of cards)
-        runMemoryTest(6);   // Medium set of cards (6 pairs of cards)
-        runMemoryTest(12);  // Large set of cards (12 pairs of cards)
-        runMemoryTest(16);  // Bigger set of cards (16 pairs of cards)
-        runMemoryTest(20);  // Even bigger set of cards (20 pairs of cards)
-        runMemoryTest(24);  // Large set of cards (24 pairs of cards)
-        runMemoryTest(28);  // Large set of cards (28 pairs of cards)
-        runMemoryTest(30);  // Large set of cards (30 pairs of cards)
-        runMemoryTest(50);  // Large set of cards (30 pairs of cards)
-        runMemoryTest(100);  // Large set of cards (30 pairs of cards)
-
-        // Additional deep analysis on specific parts of the game
-        analyzeCardClassMemory();  // Test memory used by Card class with images
-        analyzeGameStateMemory();  // Test memory used by game state and card selection
-    }
+    // Card size used by MatchCards
+    static final int CARD_WIDTH = 90;
+    static final int CARD_HEIGHT = 128;
+
+    // Budgets per board size: {rows, columns, setup allocation bytes, retained bytes, allocated bytes per click}
+    static final long[][] BUDGETS = {
+            {4, 5, 80_000, 25_000, 100},         // The standard board
+            {10, 10, 80_000, 40_000, 100},
+            {20, 20, 100_000, 50_000, 100},
+            {50, 80, 200_000, 120_000, 250},
+            {100, 100, 500_000, 300_000, 250},   // The largest MatchCards board
+    };
+
+    // Budget for the heap held by the decoded card faces and back in the image cache
+    static final long IMAGE_CACHE_BUDGET = 1_000_000;
+
+    // Budget for one idle 4x5 PackedSession, and how many are built to measure it
+    static final long PACKED_SESSION_BUDGET = 100;
+    static final int PACKED_SESSIONS = 1_000_000;
+
+    static final int CLICKS = 200_000;
+    static final int CLICK_BATCH = 10_000; // Clicks per EDT task, so the EDT watchdog does not report a stall
+
+    static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    static Theme theme;     // Card images every game uses
+    static long edtThread;  // Id of the EDT, where MatchCards sets up games and handles clicks
+    static int failures = 0;
 
     /**
-     * Run the memory and performance test for a specific number of cards
-     *
-     * @param numberOfPairs Number of card pairs in the game (total cards = 2 * numberOfPairs)
+     * Builds something to measure, possibly waiting on the EDT.
      */
-    public static void runMemoryTest(int numberOfPairs) {
-        System.gc();  // Force garbage collection for more accurate memory readings
-
-        long beforeMemory = getMemoryUsage();
-        long startTime = System.nanoTime();
-        // Test game setup with the specified number of pairs (card objects)
-        setupGame(numberOfPairs);
-
-        long afterSetupMemory = getMemoryUsage();
-        long setupTime = System.nanoTime() - startTime;
-
-        System.out.println("Setup Game Test with " + numberOfPairs + " pairs:");
-        System.out.println("Memory Before Setup (no images): " + beforeMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory After Setup (with images): " + afterSetupMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory Used by Setup: " + (afterSetupMemory - beforeMemory) / (1024 * 1024) + " MB");
-        System.out.println("Setup Time: " + setupTime / 1_000_000 + " ms");
-        // Test card click function multiple times
-        beforeMemory = getMemoryUsage();
-        startTime = System.nanoTime();
-
-        // Simulate clicking cards a few times
-        performCardClicks(numberOfPairs);
-
-        long afterClickMemory = getMemoryUsage();
-        long clickTime = System.nanoTime() - startTime;
-
-        System.out.println("\nCard Click Test with " + numberOfPairs + " pairs:");
-        System.out.println("Memory Before Clicks: " + beforeMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory After Clicks: " + afterClickMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory Used by Clicks: " + (afterClickMemory - beforeMemory) / (1024 * 1024) + " MB");
-        System.out.println("Click Time: " + clickTime / 1_000_000 + " ms");
-        // Final memory and performance statistics
-        System.out.println("\nTest Complete for " + numberOfPairs + " pairs.\n");
+    interface Factory {
+        Object build() throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        File folder = Files.createTempDirectory("mindmatch-memory").toFile();
+        System.setProperty("mindmatch.gameLog", new File(folder, "games.log").getPath());
+        System.setProperty("mindmatch.leaderboardDir", folder.getPath());
+        System.out.println("Running memory tests...");
+
+        theme = cardTheme(folder);
+        SwingUtilities.invokeAndWait(() -> edtThread = Thread.currentThread().getId());
+
+        long standardGame = 0;
+        for (long[] budget : BUDGETS) {
+            long retained = runMemoryTest((int) budget[0], (int) budget[1], budget[2], budget[3], budget[4]);
+            if (budget == BUDGETS[0]) {
+                standardGame = retained;
+            }
+        }
+        analyzeImageCacheMemory();
+        compareSessionFootprint(standardGame);
+
+        if (failures > 0) {
+            System.out.println(failures + " memory budget(s) exceeded.");
+            System.exit(1);
+        }
+        System.out.println("All memory budgets met.");
+        System.exit(0);
     }
 
     /**
-     * Simulates setting up the game with a specified number of card pairs
+     * Measures setup allocation, retained size and per-click allocation for one board size.
      *
-     * @param numberOfPairs The number of card pairs to use in the game
+     * @param rows           The number of card rows.
+     * @param columns        The number of card columns.
+     * @param setupBudget    Maximum bytes allocated on the EDT while setting up the game.
+     * @param retainedBudget Maximum bytes retained by one game.
+     * @param clickBudget    Maximum bytes allocated per click.
+     * @return The bytes retained by one game.
      */
-    public static void setupGame(int numberOfPairs) {
-        // Simulate a game setup (e.g., creating card objects)
-        ArrayList<Card> cards = new ArrayList<>();
-
-        // Create the cards with images
-        for (int i = 0; i < numberOfPairs; i++) {
-            // Load the card image (image loading simulation - replace this with actual images)
-            Image cardImg = new ImageIcon("src/img2/" + "goku1" + i + ".jpg").getImage();
-            ImageIcon cardImageIcon = new ImageIcon(cardImg.getScaledInstance(90, 128, Image.SCALE_SMOOTH));
-
-            cards.add(new Card("Card " + i, cardImageIcon)); // Add card with image
-            cards.add(new Card("Card " + i, cardImageIcon)); // Add a matching pair
+    public static long runMemoryTest(int rows, int columns, long setupBudget, long retainedBudget, long clickBudget)
+            throws Exception {
+        System.out.println("\nMemory test with a " + rows + "x" + columns + " board:");
+
+        // Warm up so class loading, JIT compilation and image decoding are not counted
+        for (int i = 0; i < 5; i++) {
+            setupGame(rows, columns);
         }
 
-        // Shuffle the cards
-        Collections.shuffle(cards);
+        long before = allocatedOnEdt();
+        HeadlessGameTester.Game game = setupGame(rows, columns);
+        long setupBytes = allocatedOnEdt() - before;
+        check("Setup allocation", setupBytes, setupBudget);
+
+        long retained = retainedBytes(Math.max(8, 1_000 / (rows * columns)), () -> setupGame(rows, columns));
+        check("Retained game state", retained, retainedBudget);
+
+        game = setupGame(rows, columns); // The retained copies replaced it in the window
+        SplittableRandom random = new SplittableRandom(rows * 1000L + columns);
+        performCardClicks(game, random, CLICKS); // Warm up
+        before = allocatedOnEdt();
+        performCardClicks(game, random, CLICKS);
+        long clickBytes = (allocatedOnEdt() - before) / CLICKS;
+        check("Allocation per click", clickBytes, clickBudget);
+        return retained;
     }
 
     /**
-     * Simulates performing a number of card clicks during the game
+     * Builds and shows a MatchCards game, paints the visible part of its board as the window would, and
+     * waits until the faces the paint asked for are loaded and on the board. Called off the EDT.
      *
-     * @param numberOfPairs The number of card pairs to use in the game
+     * @param rows    The number of card rows.
+     * @param columns The number of card columns.
+     * @return The game, shown in the application window.
      */
-    public static void performCardClicks(int numberOfPairs) {
-        // Simulate clicking on cards (you could add functionality to mimic actual gameplay)
-        ArrayList<Card> cards = new ArrayList<>();
-
-        // Create the cards with images
-        for (int i = 0; i < numberOfPairs; i++) {
-            // Load the card image (image loading simulation - replace this with actual images)
-            Image cardImg = new ImageIcon("src/img2/" + "goku1" + i + ".jpg").getImage();
-            ImageIcon cardImageIcon = new ImageIcon(cardImg.getScaledInstance(90, 128, Image.SCALE_SMOOTH));
-
-            cards.add(new Card("Card " + i, cardImageIcon)); // Add card with image
-            cards.add(new Card("Card " + i, cardImageIcon)); // Add a matching pair
+    public static HeadlessGameTester.Game setupGame(int rows, int columns) throws Exception {
+        HeadlessGameTester.Game game = HeadlessGameTester.Game.start(rows, columns, theme);
+        BufferedImage canvas = new BufferedImage(game.game.boardWidth, game.game.boardHeight,
+                BufferedImage.TYPE_INT_RGB); // Off the EDT, so it is not counted as setup
+        List<Integer> requested = new ArrayList<>();
+        SwingUtilities.invokeAndWait(() -> {
+            IntConsumer loadFace = game.board.faceRequestListener;
+            game.board.setFaceRequestListener(face -> {
+                requested.add(face);
+                loadFace.accept(face);
+            });
+            Graphics2D g = canvas.createGraphics();
+            g.setClip(0, 0, canvas.getWidth(), canvas.getHeight());
+            game.board.paint(g);
+            g.dispose();
+            game.board.setFaceRequestListener(loadFace);
+        });
+
+        boolean[] loaded = new boolean[1];
+        while (!loaded[0]) {
+            SwingUtilities.invokeAndWait(() -> loaded[0] =
+                    requested.stream().allMatch(face -> game.game.deck.get(face).cardImageIcon != null));
+            if (!loaded[0]) Thread.sleep(1);
         }
+        return game;
+    }
 
-        // Simulate clicking pairs of cards
-        for (int i = 0; i < cards.size() - 1; i++) {
-            // Simulating selecting two cards
-            Card firstCard = cards.get(i);
-            Card secondCard = cards.get(i + 1);
+    /**
+     * Clicks random tiles through the board, the way a mouse press reaches MatchCards. The hide delay
+     * expires before every click, and finished games are restarted from the results view.
+     *
+     * @param game   The game to click on.
+     * @param random Chooses the tiles.
+     * @param clicks The number of clicks.
+     */
+    public static void performCardClicks(HeadlessGameTester.Game game, SplittableRandom random, int clicks)
+            throws Exception {
+        for (int done = 0; done < clicks; done += CLICK_BATCH) {
+            int batch = Math.min(CLICK_BATCH, clicks - done);
+            SwingUtilities.invokeAndWait(() -> {
+                for (int i = 0; i < batch; i++) {
+                    game.hides.expire();
+                    game.board.clickTile(random.nextInt(game.engine.size()));
+                    if (game.gameOver()) {
+                        game.game.window.resultsRestartButton.doClick(0);
+                    }
+                }
+            });
+        }
+    }
 
-            // Simulate checking if the cards match (the logic would normally involve checking images)
-            if (firstCard.cardName.equals(secondCard.cardName)) {
-                // Cards match (no action needed, just for testing purposes)
-            }
+    /**
+     * Measures the heap retained by the theme's card images once loaded into an empty image cache.
+     */
+    public static void analyzeImageCacheMemory() {
+        System.out.println("\nMemory test: image cache with the card images");
 
-            // Introduce a small delay for each "click" to simulate user interaction
-            try {
-                Thread.sleep(50); // Simulate the delay between card clicks
-            } catch (InterruptedException e) {
-                e.printStackTrace();
+        ImageCache cache = new ImageCache(64);
+        long retained = retainedBytes(1, () -> {
+            for (String face : theme.faces) {
+                cache.get(theme.folder + face, CARD_WIDTH, CARD_HEIGHT);
             }
-        }
+            cache.get(theme.folder + theme.back, CARD_WIDTH, CARD_HEIGHT);
+            return cache;
+        });
+        check("Retained image cache", retained, IMAGE_CACHE_BUDGET);
+        System.out.println(cache);
     }
 
     /**
-     * Gets the current memory usage in bytes
+     * Measures a million idle 4x5 PackedSessions and compares one with a MatchCards game on the same
+     * board (game state, board and Swing components, without the shared images).
      *
-     * @return The current memory usage in bytes
+     * @param matchCardsBytes The bytes retained by one 4x5 MatchCards game.
      */
-    public static long getMemoryUsage() {
-        Runtime runtime = Runtime.getRuntime();
-        return runtime.totalMemory() - runtime.freeMemory(); // Returns the memory currently used
+    public static void compareSessionFootprint(long matchCardsBytes) {
+        System.out.println("\nMemory test: server session footprint (4x5)");
+        SplittableRandom seeds = new SplittableRandom(1);
+        long packed = retainedBytes(PACKED_SESSIONS, () -> new PackedSession(4, 5, seeds.nextLong(), 1000));
+
+        System.out.println("MatchCards game: " + matchCardsBytes + " bytes per game");
+        System.out.println("PackedSession: " + packed + " bytes per game, "
+                + packed * PACKED_SESSIONS / (1024 * 1024) + " MB for " + PACKED_SESSIONS + " sessions");
+        check("Retained packed session", packed, PACKED_SESSION_BUDGET);
     }
 
     /**
-     * Analyzes the memory usage of the Card class with images.
+     * Returns the built-in theme when its images are in src/img2, otherwise a theme of generated JPEGs with
+     * the same names, so the games always decode and scale real image files.
+     *
+     * @param folder The folder to write generated images to.
+     * @return The theme every game uses.
      */
-    public static void analyzeCardClassMemory() {
-        System.out.println("\n--- Memory Test: Card Class (With Images) ---");
-
-        long beforeMemory = getMemoryUsage();
-
-        // Create and initialize many Card objects with images (simulate a memory load)
-        ArrayList<Card> cardList = new ArrayList<>();
-        for (int i = 0; i < 1000; i++) {
-            Image cardImg = new ImageIcon("src/img2/" + "goku1" + i + ".jpg").getImage();
-            ImageIcon cardImageIcon = new ImageIcon(cardImg.getScaledInstance(90, 128, Image.SCALE_SMOOTH));
-            cardList.add(new Card("Card " + i, cardImageIcon)); // Creating cards with images for testing memory load
+    static Theme cardTheme(File folder) throws IOException {
+        Theme builtIn = Theme.builtIn();
+        if (new File(builtIn.folder + builtIn.back).isFile()) {
+            return builtIn;
         }
+        System.out.println("Card images not found in " + builtIn.folder + ", using generated images.");
+        File images = new File(folder, "img");
+        images.mkdir();
+        for (int i = 0; i <= builtIn.faces.length; i++) {
+            String name = i < builtIn.faces.length ? builtIn.faces[i] : builtIn.back;
+            BufferedImage image = new BufferedImage(2 * CARD_WIDTH, 2 * CARD_HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            g.setColor(Color.getHSBColor(i / (float) (builtIn.faces.length + 1), 0.6f, 0.9f));
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            g.setColor(Color.BLACK);
+            g.drawString(name, 20, 30);
+            g.dispose();
+            ImageIO.write(image, "jpg", new File(images, name));
+        }
+        return new Theme(builtIn.name, builtIn.title, images.getPath() + File.separator, builtIn.faces, builtIn.back);
+    }
 
-        long afterMemory = getMemoryUsage();
-        System.out.println("Memory Before Card Setup (with images): " + beforeMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory After Card Setup (with images): " + afterMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory Used by Card Setup (with images): " + (afterMemory - beforeMemory) / (1024 * 1024) + " MB");
+    /**
+     * Returns the bytes allocated by the EDT so far.
+     *
+     * @return The EDT's allocation counter in bytes.
+     */
+    public static long allocatedOnEdt() {
+        return THREADS.getThreadAllocatedBytes(edtThread);
     }
 
     /**
-     * Analyzes memory usage related to game state management and card selection.
+     * Measures the heap retained by what a factory builds, as the used heap after a full GC before and
+     * after building it. Small graphs are built many times and averaged to smooth out GC noise.
+     *
+     * @param copies  The number of copies to build.
+     * @param factory Builds the object graph to measure.
+     * @return The retained bytes of one copy.
      */
-    public static void analyzeGameStateMemory() {
-        System.out.println("\n--- Memory Test: Game State Management (With Images) ---");
-
-        long beforeMemory = getMemoryUsage();
-
-        // Simulate game state management (e.g., storing selected cards, tracking score)
-        int matchedPairs = 0;
-        int score = 0;
-        JButton card1Selected = new JButton();
-        JButton card2Selected = new JButton();
-
-        // Simulate selecting a few pairs of cards
-        for (int i = 0; i < 10; i++) {
-            card1Selected = new JButton();
-            card2Selected = new JButton();
-
-            // Simulate checking the match and updating game state
-            if (card1Selected.getText().equals(card2Selected.getText())) {
-                matchedPairs++;
-                score += 2; // Assuming +2 score for every match
+    public static long retainedBytes(int copies, Factory factory) {
+        Object[] built = new Object[copies];
+        gc();
+        long before = MEMORY.getHeapMemoryUsage().getUsed();
+        try {
+            for (int i = 0; i < copies; i++) {
+                built[i] = factory.build();
             }
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not build the objects to measure", e);
         }
-
-        long afterMemory = getMemoryUsage();
-        System.out.println("Memory Before Game State Setup (with images): " + beforeMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory After Game State Setup (with images): " + afterMemory / (1024 * 1024) + " MB");
-        System.out.println("Memory Used by Game State (with images): " + (afterMemory - beforeMemory) / (1024 * 1024) + " MB");
+        gc();
+        long after = MEMORY.getHeapMemoryUsage().getUsed();
+        Reference.reachabilityFence(built); // The copies must still be live when the heap is measured
+        return Math.max(0, after - before) / copies;
     }
-}
-
-
 
+    private static void gc() {
+        // Several rounds, so objects waiting on reference processing are freed too
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+    }
 
+    private static void check(String what, long bytes, long budget) {
+        boolean passed = bytes <= budget;
+        System.out.println((passed ? "PASS " : "FAIL ") + what + ": " + bytes + " bytes (budget " + budget + ")");
+        if (!passed) {
+            failures++;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * MonteCarloSimulator Class
+ * -
+ * Description: Plays large numbers of simulated games with a player model and reports the distribution
+ * of errorCount and score, so the scoring rule (start at 100, minus one per error) can be tuned with data.
+ * Games are split into chunks and run on all cores with a parallel stream. Every game gets its own seed
+ * derived from the base seed and the game number, so results are the same for a given seed no matter
+ * how the work is spread over threads.
+ * Usage: java MonteCarloSimulator [games] [seed] [pairs]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class MonteCarloSimulator {
+
+    // Games per parallel chunk, large enough that chunk overhead does not matter
+    static final int CHUNK_SIZE = 4096;
+
+    // Error counts at or above this share the last histogram bucket
+    static final int MAX_TRACKED_ERRORS = 4096;
+
+    /**
+     * The error count distribution of a batch of simulated games.
+     */
+    public static class Result {
+        final String model;
+        final int pairs;
+        final long[] errorHistogram = new long[MAX_TRACKED_ERRORS + 1];  // Games per error count
+        long games = 0;
+        long totalErrors = 0;
+        double seconds;
+
+        Result(String model, int pairs) {
+            this.model = model;
+            this.pairs = pairs;
+        }
+
+        void add(int errors) {
+            errorHistogram[Math.min(errors, MAX_TRACKED_ERRORS)]++;
+            totalErrors += errors;
+            games++;
+        }
+
+        Result merge(Result other) {
+            for (int i = 0; i < errorHistogram.length; i++) {
+                errorHistogram[i] += other.errorHistogram[i];
+            }
+            games += other.games;
+            totalErrors += other.totalErrors;
+            return this;
+        }
+
+        public double meanErrors() {
+            return games == 0 ? 0 : totalErrors / (double) games;
+        }
+
+        public double meanScore() {
+            return GameEngine.START_SCORE - meanErrors();
+        }
+
+        /**
+         * Returns the error count at a percentile of the distribution.
+         *
+         * @param percentile A value between 0 and 100.
+         * @return The smallest error count with at least that share of games at or below it.
+         */
+        public int errorPercentile(double percentile) {
+            long target = (long) Math.ceil(games * percentile / 100.0);
+            long seen = 0;
+            for (int errors = 0; errors < errorHistogram.length; errors++) {
+                seen += errorHistogram[errors];
+                if (seen >= Math.max(1, target)) return errors;
+            }
+            return MAX_TRACKED_ERRORS;
+        }
+
+        public double standardDeviation() {
+            double mean = meanErrors();
+            double squares = 0;
+            for (int errors = 0; errors < errorHistogram.length; errors++) {
+                squares += errorHistogram[errors] * (errors - mean) * (errors - mean);
+            }
+            return games < 2 ? 0 : Math.sqrt(squares / (games - 1));
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 20250204L;
+        int pairs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        System.out.println("Simulating " + games + " games per model, " + pairs + " pairs, seed " + seed + "...");
+
+        printResult(simulate(pairs, PerfectMemoryPlayer::new, games, seed));
+        printResult(simulate(pairs, () -> new BoundedMemoryPlayer(8, 0.0), games, seed));
+        printResult(simulate(pairs, () -> new BoundedMemoryPlayer(8, 0.05), games, seed));
+        printResult(simulate(pairs, RandomPlayer::new, games, seed));
+    }
+
+    /**
+     * Plays a number of games with a player model, in parallel over all cores.
+     *
+     * @param pairs  The number of pairs on the board.
+     * @param models Creates one player model per worker.
+     * @param games  The number of games to play.
+     * @param seed   The base seed, the same seed always gives the same result.
+     * @return The distribution of error counts over all games.
+     */
+    public static Result simulate(int pairs, Supplier<PlayerModel> models, long games, long seed) {
+        long start = System.nanoTime();
+        int chunks = (int) ((games + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        String name = models.get().toString();
+
+        Result result = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    long first = (long) chunk * CHUNK_SIZE;
+                    long last = Math.min(games, first + CHUNK_SIZE);
+                    return simulateChunk(pairs, models.get(), first, last, seed, name);
+                })
+                .reduce(Result::merge)
+                .orElseGet(() -> new Result(name, pairs));
+
+        result.seconds = (System.nanoTime() - start) / 1e9;
+        return result;
+    }
+
+    /**
+     * Plays games first (inclusive) to last (exclusive) on one thread, reusing one engine and model.
+     */
+    static Result simulateChunk(int pairs, PlayerModel model, long first, long last, long seed, String name) {
+        Result result = new Result(name, pairs);
+        GameEngine engine = new GameEngine(pairs);
+        for (long game = first; game < last; game++) {
+            result.add(playGame(engine, model, new SplittableRandom(gameSeed(seed, game))));
+        }
+        return result;
+    }
+
+    /**
+     * Plays one game to the end.
+     *
+     * @param engine The engine to play on, reset by this method.
+     * @param model  The player model.
+     * @param random The game's generator, its first draw seeds the deal and the rest drive the model.
+     * @return The number of errors made.
+     */
+    public static int playGame(GameEngine engine, PlayerModel model, SplittableRandom random) {
+        engine.reset();
+        engine.deal(random.nextLong()); // From the canonical order, so the game replays from its seed alone
+        engine.resolve(); // End the face-up preview
+        model.newGame(engine.size());
+
+        int result;
+        do {
+            int position = model.chooseTile(engine, random);
+            result = engine.flip(position);
+            if (result == GameEngine.IGNORED) {
+                throw new IllegalStateException(model + " chose a face-up tile " + position);
+            }
+            model.cardSeen(position, engine.cardAt(position), result);
+            if (result == GameEngine.MISMATCH) {
+                engine.resolve(); // Hide delay expires straight away
+            }
+        } while (result != GameEngine.GAME_OVER);
+        return engine.errorCount;
+    }
+
+    /**
+     * Derives the seed of a single game from the base seed (SplitMix64 finalizer).
+     */
+    static long gameSeed(long seed, long game) {
+        long z = seed + (game + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Prints the summary and the error/score distribution of a result.
+     */
+    static void printResult(Result result) {
+        System.out.printf(Locale.ROOT, "%nModel: %s (%d games in %.2f s, %.0f games/min)%n", result.model, result.games,
+                result.seconds, result.games / result.seconds * 60);
+        System.out.printf(Locale.ROOT, "Errors: mean %.3f, sd %.3f, p5 %d, p50 %d, p95 %d, p99 %d%n",
+                result.meanErrors(), result.standardDeviation(), result.errorPercentile(5), result.errorPercentile(50),
+                result.errorPercentile(95), result.errorPercentile(99));
+        System.out.printf(Locale.ROOT, "Score:  mean %.3f%n", result.meanScore());
+        System.out.println("Errors  Score  Games      Share");
+        for (int errors = 0; errors < result.errorHistogram.length; errors++) {
+            long count = result.errorHistogram[errors];
+            if (count == 0 || count * 1000 < result.games) continue; // Skip buckets under 0.1%
+            System.out.printf(Locale.ROOT, "%-7d %-6d %-10d %.2f%%%n", errors, GameEngine.START_SCORE - errors, count,
+                    100.0 * count / result.games);
+        }
+    }
+}
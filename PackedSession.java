@@ -0,0 +1,227 @@
+/**
+ * PackedSession Class
+ * -
+ * Description: One game hosted by the GameServer, packed as tightly as the rules allow so a server can
+ * keep a million idle sessions in a modest heap. The card ids and the matched bits share a single long[]:
+ * each card id takes 4 bits (up to 16 pairs, so a 4x5 board needs 80 bits), 8 bits (up to 256 pairs) or
+ * 16 bits, followed by one matched bit per tile. The counters and the selection are primitive fields and
+ * the score is derived from the error count, so a 4x5 session is 80 bytes on a 64-bit JVM with
+ * compressed references.
+ * The rules are those of GameEngine. The hide delay works like MatchCards' timer: the cards stay face-up
+ * for the delay after the deal and a mismatched pair stays face-up for the delay after the second flip,
+ * with flips ignored meanwhile. The session holds no timer: a pending hide is applied by resolveIfDue(),
+ * which the GameServer calls from its shared HideScheduler, or lazily by the next command after it is due.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.SplittableRandom;
+
+public class PackedSession {
+
+    public static final int MAX_PAIRS = 0xFFFF;
+
+    // Bits of the flags field
+    private static final int READY = 1;          // Preview over, flips are accepted
+    private static final int HIDE_PENDING = 2;   // Preview or mismatch waiting for the hide delay
+
+    private final long[] bits;           // Card ids (1 << idShift bits each), then one matched bit per tile
+    private long hideAtNanos;            // When the pending hide is due
+    private final int hideDelayMillis;
+    private int errorCount;
+    private int card1Selected = -1;      // Position of the first selected card, -1 if none
+    private int card2Selected = -1;      // Position of the second selected card, -1 if none
+    private final char pairCount;
+    private char matchedPairs;
+    private final byte idShift;          // log2 of the bits per card id: 2, 3 or 4
+    private byte flags;
+
+    /**
+     * Constructor for PackedSession. Deals the board and starts the face-up preview.
+     *
+     * @param rows            The number of tile rows.
+     * @param columns         The number of tile columns, rows * columns must be even.
+     * @param seed            The seed of the deal, the same seed gives the same board as GameEngine.deal().
+     * @param hideDelayMillis How long cards stay face-up before being hidden (MatchCards uses 1000).
+     */
+    public PackedSession(int rows, int columns, long seed, int hideDelayMillis) {
+        long tiles = (long) rows * columns; // Long, so huge sizes cannot wrap around
+        if (rows <= 0 || columns <= 0 || tiles % 2 != 0 || tiles / 2 > MAX_PAIRS) {
+            throw new IllegalArgumentException("Board must have an even number of tiles, at most " + MAX_PAIRS * 2);
+        }
+        int pairs = (int) (tiles / 2);
+        this.pairCount = (char) pairs;
+        this.hideDelayMillis = hideDelayMillis;
+        idShift = (byte) (pairs <= 16 ? 2 : pairs <= 256 ? 3 : 4);
+        long totalBits = ((long) pairs * 2 << idShift) + pairs * 2;
+        bits = new long[(int) ((totalBits + 63) >>> 6)];
+        deal(seed);
+        scheduleHide(System.nanoTime());
+    }
+
+    /**
+     * Flips a card, first applying a hide that has become due.
+     *
+     * @param position The board position to flip.
+     * @return One of GameEngine's IGNORED, FIRST, MATCH, MISMATCH or GAME_OVER.
+     */
+    public synchronized int flip(int position) {
+        return flip(position, System.nanoTime());
+    }
+
+    /**
+     * Flips a card at the given time, first applying a hide that is due by then.
+     *
+     * @param position The board position to flip.
+     * @param now      The current System.nanoTime().
+     * @return One of GameEngine's IGNORED, FIRST, MATCH, MISMATCH or GAME_OVER.
+     */
+    synchronized int flip(int position, long now) {
+        resolveIfDue(now);
+        if (position < 0 || position >= size() || (flags & READY) == 0 || isFaceUp(position)) {
+            return GameEngine.IGNORED;
+        }
+
+        if (card1Selected == -1) {
+            card1Selected = position;
+            return GameEngine.FIRST;
+        }
+        if (card2Selected != -1) return GameEngine.IGNORED; // Waiting for the hide
+
+        card2Selected = position;
+        if (cardAt(card1Selected) != cardAt(card2Selected)) {
+            errorCount++;
+            scheduleHide(now);
+            return GameEngine.MISMATCH;
+        }
+
+        setMatched(card1Selected);
+        setMatched(card2Selected);
+        card1Selected = -1;
+        card2Selected = -1;
+        matchedPairs++;
+        return matchedPairs == pairCount ? GameEngine.GAME_OVER : GameEngine.MATCH;
+    }
+
+    /**
+     * Applies the pending hide if its delay has passed: hides a mismatched pair, or ends the preview.
+     *
+     * @param now The current System.nanoTime().
+     */
+    public synchronized void resolveIfDue(long now) {
+        if ((flags & HIDE_PENDING) == 0 || now - hideAtNanos < 0) return;
+        flags &= ~HIDE_PENDING;
+        if ((flags & READY) == 0) {
+            for (int i = 0; i < size(); i++) {
+                clearMatched(i);
+            }
+            flags |= READY;
+        }
+        card1Selected = -1;
+        card2Selected = -1;
+    }
+
+    /**
+     * Returns the pair id of the card at a position.
+     *
+     * @param position The board position.
+     * @return The pair id, between 0 and the number of pairs - 1.
+     */
+    public int cardAt(int position) {
+        int bit = position << idShift;
+        return (int) (bits[bit >>> 6] >>> bit) & ((1 << (1 << idShift)) - 1);
+    }
+
+    /**
+     * Checks whether the card at a position is currently showing its face.
+     *
+     * @param position The board position to check.
+     * @return True during the preview, for matched cards and for the current selection.
+     */
+    public synchronized boolean isFaceUp(int position) {
+        return (flags & READY) == 0 || isMatched(position) || position == card1Selected || position == card2Selected;
+    }
+
+    /**
+     * Checks whether the card at a position has been matched.
+     *
+     * @param position The board position to check.
+     * @return True if the tile belongs to a matched pair.
+     */
+    public synchronized boolean isMatched(int position) {
+        int bit = matchedBit(position);
+        return (bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    public int size() {
+        return pairCount * 2;
+    }
+
+    public int pairCount() {
+        return pairCount;
+    }
+
+    public synchronized boolean isReady() {
+        return (flags & READY) != 0;
+    }
+
+    public synchronized int errorCount() {
+        return errorCount;
+    }
+
+    public synchronized int matchedPairs() {
+        return matchedPairs;
+    }
+
+    /**
+     * Returns the score, which loses one point per error as in GameEngine.
+     *
+     * @return The current score.
+     */
+    public synchronized int score() {
+        return GameEngine.START_SCORE - errorCount;
+    }
+
+    /**
+     * Lays out each pair id twice and shuffles them with the same Fisher-Yates shuffle as GameEngine.deal().
+     */
+    private void deal(long seed) {
+        for (int i = 0; i < size(); i++) {
+            setCard(i, i % pairCount);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int temp = cardAt(i);
+            setCard(i, cardAt(j));
+            setCard(j, temp);
+        }
+    }
+
+    private void scheduleHide(long now) {
+        flags |= HIDE_PENDING;
+        hideAtNanos = now + hideDelayMillis * 1_000_000L;
+    }
+
+    private void setCard(int position, int cardId) {
+        int bit = position << idShift;
+        long mask = ((1L << (1 << idShift)) - 1) << bit;
+        bits[bit >>> 6] = (bits[bit >>> 6] & ~mask) | ((long) cardId << bit);
+    }
+
+    private int matchedBit(int position) {
+        return (size() << idShift) + position;
+    }
+
+    private void setMatched(int position) {
+        int bit = matchedBit(position);
+        bits[bit >>> 6] |= 1L << bit;
+    }
+
+    private void clearMatched(int position) {
+        int bit = matchedBit(position);
+        bits[bit >>> 6] &= ~(1L << bit);
+    }
+}
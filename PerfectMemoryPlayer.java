@@ -0,0 +1,81 @@
+/**
+ * PerfectMemoryPlayer Class
+ * -
+ * Description: A player model that remembers every card it has seen. It takes any pair it knows the
+ * position of both cards of, completes a pair when the second card's partner is known, and otherwise
+ * turns over a card it has not seen yet. This gives the best expected error count.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class PerfectMemoryPlayer implements PlayerModel {
+
+    int[] known = new int[0];       // Card id seen at each position, -1 if never seen
+    int[] firstPosition = new int[0];  // First position each card id was seen at, -1 if not seen
+    int[] secondPosition = new int[0]; // Second position each card id was seen at, -1 if not seen
+    int[] knownPairs = new int[0];  // Card ids with both positions known, used as a stack
+    int knownPairCount = 0;
+    int firstCardId = -1;           // Id of the first card of the current turn
+
+    @Override
+    public void newGame(int tiles) {
+        if (known.length != tiles) {
+            known = new int[tiles];
+            firstPosition = new int[tiles / 2];
+            secondPosition = new int[tiles / 2];
+            knownPairs = new int[tiles / 2];
+        }
+        Arrays.fill(known, -1);
+        Arrays.fill(firstPosition, -1);
+        Arrays.fill(secondPosition, -1);
+        knownPairCount = 0;
+        firstCardId = -1;
+    }
+
+    @Override
+    public int chooseTile(GameEngine engine, SplittableRandom random) {
+        if (engine.card1Selected == -1) {
+            // Take a pair whose two positions are known
+            while (knownPairCount > 0) {
+                int cardId = knownPairs[--knownPairCount];
+                if (!engine.isMatched(firstPosition[cardId])) {
+                    return firstPosition[cardId];
+                }
+            }
+        } else if (firstCardId != -1) {
+            // Complete the pair if the partner of the first card is known
+            int partner = firstPosition[firstCardId] == engine.card1Selected
+                    ? secondPosition[firstCardId] : firstPosition[firstCardId];
+            if (partner != -1) {
+                return partner;
+            }
+        }
+        return PlayerModel.randomFaceDownTile(engine, known, random);
+    }
+
+    @Override
+    public void cardSeen(int position, int cardId, int result) {
+        firstCardId = result == GameEngine.FIRST ? cardId : -1;
+        if (known[position] != -1) return;
+
+        known[position] = cardId;
+        if (firstPosition[cardId] == -1) {
+            firstPosition[cardId] = position;
+        } else {
+            secondPosition[cardId] = position;
+            if (result != GameEngine.MATCH && result != GameEngine.GAME_OVER) {
+                knownPairs[knownPairCount++] = cardId;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "perfect";
+    }
+}
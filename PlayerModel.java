@@ -0,0 +1,74 @@
+/**
+ * PlayerModel Interface
+ * -
+ * Description: A simulated player for the memory-matching game. The simulator asks the model which tile
+ * to flip next and then tells it which card was revealed, which is the same information a human player
+ * gets from the board. In a two-player TournamentRunner game the model is also told about the opponent's
+ * flips, so a turn always starts with no unmatched card face-up. Models are stateful and used by one thread
+ * at a time, so the simulator creates one per worker. Implementations must not allocate per move, so games
+ * can be simulated in bulk.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.SplittableRandom;
+
+public interface PlayerModel {
+
+    /**
+     * Forgets everything from the previous game.
+     *
+     * @param tiles The number of tiles on the new board.
+     */
+    void newGame(int tiles);
+
+    /**
+     * Chooses the next tile to flip. Must return a face-down tile.
+     *
+     * @param engine The game being played, used only to see which tiles are face-up.
+     * @param random The generator for any random choice, seeded per game.
+     * @return The board position to flip.
+     */
+    int chooseTile(GameEngine engine, SplittableRandom random);
+
+    /**
+     * Called after every flip with the card that was revealed.
+     *
+     * @param position The board position that was flipped.
+     * @param cardId   The pair id of the card at that position.
+     * @param result   The engine's result for the flip (FIRST, MATCH, MISMATCH or GAME_OVER).
+     */
+    void cardSeen(int position, int cardId, int result);
+
+    /**
+     * Picks a random face-down tile that the caller does not already know.
+     *
+     * @param engine The game being played.
+     * @param known  The remembered card id per position, -1 for unknown (may be null).
+     * @param random The generator to draw from.
+     * @return A face-down position, preferring unknown ones.
+     */
+    static int randomFaceDownTile(GameEngine engine, int[] known, SplittableRandom random) {
+        int tiles = engine.size();
+        // Rejection sampling is cheap while many tiles are face-down
+        for (int attempt = 0; attempt < 64; attempt++) {
+            int position = random.nextInt(tiles);
+            if (!engine.isFaceUp(position) && (known == null || known[position] == -1)) {
+                return position;
+            }
+        }
+        // Late in the game, scan from a random start instead
+        int start = random.nextInt(tiles);
+        int fallback = -1;
+        for (int i = 0; i < tiles; i++) {
+            int position = (start + i) % tiles;
+            if (!engine.isFaceUp(position)) {
+                if (known == null || known[position] == -1) return position;
+                if (fallback == -1) fallback = position;
+            }
+        }
+        return fallback;
+    }
+}
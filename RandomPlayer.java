@@ -0,0 +1,35 @@
+/**
+ * RandomPlayer Class
+ * -
+ * Description: A player model with no memory. Every flip is a random face-down tile, which gives the
+ * worst expected error count and a baseline for the other models.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.SplittableRandom;
+
+public class RandomPlayer implements PlayerModel {
+
+    @Override
+    public void newGame(int tiles) {
+        // Nothing to forget
+    }
+
+    @Override
+    public int chooseTile(GameEngine engine, SplittableRandom random) {
+        return PlayerModel.randomFaceDownTile(engine, null, random);
+    }
+
+    @Override
+    public void cardSeen(int position, int cardId, int result) {
+        // Ignored, this player remembers nothing
+    }
+
+    @Override
+    public String toString() {
+        return "random";
+    }
+}
@@ -0,0 +1,124 @@
+/**
+ * ReplayTester Class
+ * -
+ * Description: Tests the GameReplayer. Records simulated games to a temporary log the same way MatchCards
+ * does, replays them with the current scoring rule (scores must be unchanged and no game may diverge),
+ * checks that a record breaking the rules is detected, and reports replay throughput.
+ * Runs without a display (java -ea ReplayTester [games]).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplayTester {
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Replay Tester...");
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+        File file = File.createTempFile("mindmatch-replay-test", ".log");
+        file.delete();
+        file.deleteOnExit();
+
+        long recordedScoreTotal = recordGames(file, games);
+        testReplayKeepsScores(file, games, recordedScoreTotal);
+        testDivergedRecordIsDetected(file, games);
+
+        System.out.println("All replay tests completed successfully.");
+    }
+
+    /**
+     * Plays games with a bounded-memory player and records them, abandoning every tenth game midway.
+     *
+     * @return The total recorded score of the completed games.
+     */
+    static long recordGames(File file, int games) throws IOException {
+        GameLog log = new GameLog(file);
+        GameRecorder recorder = new GameRecorder(log);
+        GameEngine engine = new GameEngine(10);
+        PlayerModel model = new BoundedMemoryPlayer(6, 0.05);
+        SplittableRandom random = new SplittableRandom(99);
+        long scoreTotal = 0;
+
+        for (int game = 0; game < games; game++) {
+            engine.reset();
+            engine.deal(random.nextLong());
+            engine.resolve();
+            model.newGame(engine.size());
+            recorder.beginGame(engine.seed, 4, 5);
+
+            boolean abandon = game % 10 == 0;
+            int result;
+            int flips = 0;
+            do {
+                int position = model.chooseTile(engine, random);
+                result = engine.flip(position);
+                recorder.flip(position, result);
+                model.cardSeen(position, engine.cardAt(position), result);
+                if (result == GameEngine.MISMATCH) engine.resolve();
+                flips++;
+            } while (result != GameEngine.GAME_OVER && !(abandon && flips == 7));
+
+            boolean completed = result == GameEngine.GAME_OVER;
+            recorder.endGame(engine.errorCount, engine.score, completed);
+            if (completed) scoreTotal += engine.score;
+        }
+        log.close();
+        System.out.println("Recorded " + games + " games, " + file.length() / 1048576 + " MB.");
+        return scoreTotal;
+    }
+
+    /**
+     * Replays the log with the current rule, which must reproduce every recorded score.
+     */
+    public static void testReplayKeepsScores(File file, int games, long recordedScoreTotal) throws IOException {
+        System.out.println("Testing replay with the current scoring rule...");
+
+        AtomicLong changed = new AtomicLong();
+        GameReplayer.Summary summary = GameReplayer.replay(file, ScoringRule.CURRENT, (seed, recorded, rescored, completed) -> {
+            if (recorded != rescored) changed.incrementAndGet();
+        });
+        System.out.println(summary);
+
+        assert summary.games == games : "Replayed " + summary.games + " of " + games + " games.";
+        assert summary.divergedGames == 0 : summary.divergedGames + " games diverged from their record.";
+        assert summary.completedGames == games - (games + 9) / 10 : "Wrong number of completed games.";
+        assert summary.recordedScoreTotal == recordedScoreTotal : "Recorded scores were not read back.";
+        assert summary.newScoreTotal == recordedScoreTotal && changed.get() == 0 : "Current rule changed scores.";
+
+        GameReplayer.Summary timed = GameReplayer.replay(file, ScoringRule.TIMED, null);
+        assert timed.newScoreTotal <= recordedScoreTotal : "Timed rule cannot score higher than the current rule.";
+    }
+
+    /**
+     * Appends a game whose second flip claims a match on two different cards; replay must flag it.
+     */
+    public static void testDivergedRecordIsDetected(File file, int games) throws IOException {
+        System.out.println("Testing diverged record detection...");
+
+        GameEngine engine = new GameEngine(10);
+        engine.deal(5);
+        int first = 0;
+        int second = 1;
+        while (engine.cardAt(second) == engine.cardAt(first)) second++;
+
+        GameLog log = new GameLog(file);
+        GameRecorder recorder = new GameRecorder(log);
+        recorder.beginGame(5, 4, 5);
+        recorder.flip(first, GameEngine.FIRST);
+        recorder.flip(second, GameEngine.MATCH); // Not what the rules give
+        recorder.endGame(0, GameEngine.START_SCORE, false);
+        log.close();
+
+        GameReplayer.Summary summary = GameReplayer.replay(file, ScoringRule.CURRENT, null);
+        assert summary.games == games + 1 : "New record was not replayed.";
+        assert summary.divergedGames == 1 : "Diverged record was not detected.";
+        System.out.println("Diverged record detected.");
+    }
+}
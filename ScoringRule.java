@@ -0,0 +1,30 @@
+/**
+ * ScoringRule Interface
+ * -
+ * Description: Computes the score of a finished game. MatchCards scores with CURRENT (start at 100,
+ * minus one per error). Other rules can be passed to GameReplayer to re-score recorded games.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+public interface ScoringRule {
+
+    // The rule used by the game: start at 100, minus one per error
+    ScoringRule CURRENT = (errorCount, pairs, durationNanos) -> GameEngine.START_SCORE - errorCount;
+
+    // Example of a timed rule: errors cost one point, and every ten seconds played costs one point
+    ScoringRule TIMED = (errorCount, pairs, durationNanos) ->
+            GameEngine.START_SCORE - errorCount - (int) (durationNanos / 10_000_000_000L);
+
+    /**
+     * Scores a game.
+     *
+     * @param errorCount    The number of mismatched pairs turned over.
+     * @param pairs         The number of pairs on the board.
+     * @param durationNanos The time from the start of the game to its last flip.
+     * @return The score.
+     */
+    int score(int errorCount, int pairs, long durationNanos);
+}
@@ -0,0 +1,237 @@
+/**
+ * ShuffleQualityTester Class
+ * -
+ * Description: Statistical tests of the deal, run over tens of millions of shuffles in parallel. Every
+ * shuffle goes through GameEngine.deal(seed), the path every game takes, and three chi-squared tests are
+ * applied to the results:
+ * - Position by card: how often each card lands on each tile of a 4x5 board.
+ * - Permutation: how often each of the 2520 distinct layouts of a 4-pair board comes up, which also
+ *   catches bias between tiles that the position-by-card counts cannot see.
+ * - Serial: whether the card on the first tile of one deal predicts the card there in the next deal.
+ * The tests use a significance level of one in a million, so with a fixed seed they only fail on real
+ * bias. The same tests are then run on a naive shuffle (each tile swapped with any tile) to check that
+ * they detect its known bias.
+ * Usage: java -ea ShuffleQualityTester [shuffles] [seed]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class ShuffleQualityTester {
+
+    static final int PAIRS = 10;          // Standard 4x5 board for the position-by-card and serial tests
+    static final int LAYOUT_PAIRS = 4;    // 8 tiles for the permutation test
+    static final int LAYOUTS = 2520;      // 8! / 2^4 distinct layouts of 4 pairs
+    static final int CHUNK_SIZE = 1 << 16;
+    static final double Z = 4.75;         // Standard normal quantile for p = 1e-6
+    static final long NAIVE_SHUFFLES = 2_000_000;
+
+    /**
+     * A way of dealing a board, so the naive shuffle can be run through the same tests.
+     */
+    interface Shuffler {
+        void deal(GameEngine engine, SplittableRandom random);
+    }
+
+    // The game's deal: a seed per deal, then the engine's Fisher-Yates shuffle
+    static final Shuffler ENGINE = (engine, random) -> engine.deal(random.nextLong());
+
+    // Swaps each tile with any tile, which favours some layouts over others
+    static final Shuffler NAIVE = (engine, random) -> {
+        int[] ids = engine.cardIds;
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i % engine.pairCount;
+        }
+        for (int i = 0; i < ids.length; i++) {
+            int j = random.nextInt(ids.length);
+            int temp = ids[i];
+            ids[i] = ids[j];
+            ids[j] = temp;
+        }
+    };
+
+    /**
+     * Counts gathered from a batch of shuffles.
+     */
+    static final class Tally {
+        final long[] positionCard = new long[2 * PAIRS * PAIRS];  // [position * PAIRS + card]
+        final long[] layouts = new long[1 << (2 * 2 * LAYOUT_PAIRS)]; // By layout code, base 4
+        final long[] serial = new long[PAIRS * PAIRS];             // [previous card * PAIRS + next card]
+        long shuffles = 0;
+        long serialPairs = 0;
+
+        Tally merge(Tally other) {
+            add(positionCard, other.positionCard);
+            add(layouts, other.layouts);
+            add(serial, other.serial);
+            shuffles += other.shuffles;
+            serialPairs += other.serialPairs;
+            return this;
+        }
+
+        private static void add(long[] into, long[] from) {
+            for (int i = 0; i < into.length; i++) {
+                into[i] += from[i];
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        long shuffles = args.length > 0 ? Long.parseLong(args[0]) : 20_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 20250204L;
+        System.out.println("Starting Shuffle Quality Tester...");
+        System.out.println("Running " + shuffles + " shuffles, seed " + seed + "...");
+
+        long start = System.nanoTime();
+        Tally tally = run(ENGINE, shuffles, seed);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf(Locale.ROOT, "%d shuffles in %.2f s (%.1f million/s)%n", tally.shuffles, seconds,
+                tally.shuffles / seconds / 1e6);
+        assert tally.shuffles == shuffles : "Ran " + tally.shuffles + " shuffles.";
+
+        boolean uniform = report("Position by card", positionCardChiSquared(tally), (2 * PAIRS - 1) * (PAIRS - 1));
+        uniform &= report("Permutation", layoutChiSquared(tally), LAYOUTS - 1);
+        uniform &= report("Serial", serialChiSquared(tally), PAIRS * PAIRS - 1);
+        assert uniform : "The deal is biased.";
+
+        System.out.println("Checking the tests detect a naive shuffle...");
+        Tally naive = run(NAIVE, NAIVE_SHUFFLES, seed);
+        boolean positionsUniform = report("Naive position by card", positionCardChiSquared(naive),
+                (2 * PAIRS - 1) * (PAIRS - 1));
+        boolean layoutsUniform = report("Naive permutation", layoutChiSquared(naive), LAYOUTS - 1);
+        assert !positionsUniform : "Position-by-card test did not detect the naive shuffle.";
+        assert !layoutsUniform : "Permutation test did not detect the naive shuffle.";
+
+        System.out.println("All shuffle quality tests completed successfully.");
+    }
+
+    /**
+     * Runs shuffles in parallel chunks. Each chunk has its own generator seeded from the base seed and the
+     * chunk number, so the counts are the same however the chunks are spread over threads.
+     *
+     * @param shuffler The deal to test.
+     * @param shuffles The number of shuffles.
+     * @param seed     The base seed.
+     * @return The counts over all shuffles.
+     */
+    static Tally run(Shuffler shuffler, long shuffles, long seed) {
+        int chunks = (int) ((shuffles + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        return IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    long first = (long) chunk * CHUNK_SIZE;
+                    long last = Math.min(shuffles, first + CHUNK_SIZE);
+                    return runChunk(shuffler, last - first, new SplittableRandom(MonteCarloSimulator.gameSeed(seed, chunk)));
+                })
+                .reduce(Tally::merge)
+                .orElseGet(Tally::new);
+    }
+
+    /**
+     * Runs shuffles on one thread, reusing one engine per board size.
+     */
+    static Tally runChunk(Shuffler shuffler, long shuffles, SplittableRandom random) {
+        Tally tally = new Tally();
+        GameEngine board = new GameEngine(PAIRS);
+        GameEngine small = new GameEngine(LAYOUT_PAIRS);
+        int previousFirstCard = -1;
+        for (long i = 0; i < shuffles; i++) {
+            shuffler.deal(board, random);
+            for (int position = 0; position < board.size(); position++) {
+                tally.positionCard[position * PAIRS + board.cardAt(position)]++;
+            }
+            if (previousFirstCard != -1) {
+                tally.serial[previousFirstCard * PAIRS + board.cardAt(0)]++;
+                tally.serialPairs++;
+            }
+            previousFirstCard = board.cardAt(0);
+
+            shuffler.deal(small, random);
+            tally.layouts[layoutCode(small)]++;
+            tally.shuffles++;
+        }
+        return tally;
+    }
+
+    /**
+     * Chi-squared of the card counts on each tile; each card is expected on a tile once every PAIRS deals.
+     */
+    static double positionCardChiSquared(Tally tally) {
+        return chiSquared(tally.positionCard, tally.shuffles / (double) PAIRS);
+    }
+
+    /**
+     * Chi-squared of the layout counts, over the codes that are valid layouts (each card exactly twice).
+     */
+    static double layoutChiSquared(Tally tally) {
+        double expected = tally.shuffles / (double) LAYOUTS;
+        double chiSquared = 0;
+        int layouts = 0;
+        for (int code = 0; code < tally.layouts.length; code++) {
+            if (!isLayout(code)) {
+                assert tally.layouts[code] == 0 : "Deal produced an invalid layout " + Integer.toString(code, 4);
+                continue;
+            }
+            layouts++;
+            double difference = tally.layouts[code] - expected;
+            chiSquared += difference * difference / expected;
+        }
+        assert layouts == LAYOUTS : "Found " + layouts + " layouts instead of " + LAYOUTS;
+        return chiSquared;
+    }
+
+    /**
+     * Chi-squared of the first-tile card of consecutive deals; every combination is equally likely.
+     */
+    static double serialChiSquared(Tally tally) {
+        return chiSquared(tally.serial, tally.serialPairs / (double) (PAIRS * PAIRS));
+    }
+
+    private static double chiSquared(long[] counts, double expected) {
+        double chiSquared = 0;
+        for (long count : counts) {
+            double difference = count - expected;
+            chiSquared += difference * difference / expected;
+        }
+        return chiSquared;
+    }
+
+    /**
+     * Prints a test's statistic against its critical value.
+     *
+     * @return True if the statistic is below the critical value, i.e. no bias was found.
+     */
+    static boolean report(String test, double chiSquared, int degreesOfFreedom) {
+        double critical = EngineTester.chiSquaredCritical(degreesOfFreedom, Z);
+        boolean passed = chiSquared < critical;
+        System.out.printf(Locale.ROOT, "%-24s chi-squared %10.1f, df %4d, critical %7.1f  %s%n", test, chiSquared,
+                degreesOfFreedom, critical, passed ? "uniform" : "BIASED");
+        return passed;
+    }
+
+    /**
+     * Encodes the layout of a small board as a base-4 number, tile 0 in the lowest digit.
+     */
+    static int layoutCode(GameEngine engine) {
+        int code = 0;
+        for (int position = engine.size() - 1; position >= 0; position--) {
+            code = (code << 2) | engine.cardAt(position);
+        }
+        return code;
+    }
+
+    private static boolean isLayout(int code) {
+        int[] counts = new int[LAYOUT_PAIRS];
+        for (int position = 0; position < 2 * LAYOUT_PAIRS; position++, code >>>= 2) {
+            counts[code & 3]++;
+        }
+        for (int count : counts) {
+            if (count != 2) return false;
+        }
+        return true;
+    }
+}
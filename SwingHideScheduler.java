@@ -0,0 +1,29 @@
+/**
+ * SwingHideScheduler Class
+ * -
+ * Description: HideScheduler backed by javax.swing.Timer, so the task runs on the Event Dispatch Thread
+ * and may touch Swing components. Used by MatchCards, which only ever has one hide pending.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+
+public class SwingHideScheduler implements HideScheduler {
+
+    public static final SwingHideScheduler INSTANCE = new SwingHideScheduler();
+
+    @Override
+    public Handle schedule(Runnable task, long delayMillis) {
+        Timer timer = new Timer((int) delayMillis, e -> task.run());
+        timer.setRepeats(false);
+        timer.start();
+        return () -> {
+            boolean pending = timer.isRunning();
+            timer.stop();
+            return pending;
+        };
+    }
+}
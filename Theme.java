@@ -0,0 +1,176 @@
+/**
+ * Theme Class
+ * -
+ * Description: A set of card faces plus a card back. The built-in theme is the Lizard Ball Z images in
+ * src/img2/; other themes are zip or jar archives holding a theme.properties manifest and the images:
+ *   name=space
+ *   title=Space Race
+ *   back=back.jpg
+ *   faces=earth.jpg, mars.jpg, jupiter.jpg
+ * A theme only knows its images' names until one is asked for; each image is then decoded and scaled on
+ * first use and kept in the shared ImageCache. Archive images are cached by the CRC and size the archive
+ * already stores for them, so an image shipped unchanged in several themes is decoded once.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.swing.*;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public class Theme {
+
+    // Name of the manifest inside a theme archive
+    static final String MANIFEST = "theme.properties";
+
+    final String name;          // Short name, used to select the theme
+    final String title;         // Name shown in the menu
+    final String[] faces;       // Face image names, the face index is the position in this array
+    final String back;          // Back image name
+    final String folder;        // Folder holding the images, ending with a slash, or null for an archive
+    final File archive;         // Archive holding the images, or null for a folder
+    final String[] cacheKeys;   // For an archive, the cache key of each face then the back
+
+    /**
+     * Constructor for a theme whose images are files in a folder.
+     *
+     * @param name   The short name.
+     * @param title  The name shown in the menu.
+     * @param folder The folder holding the images, ending with a slash.
+     * @param faces  The face image names.
+     * @param back   The back image name.
+     */
+    Theme(String name, String title, String folder, String[] faces, String back) {
+        this.name = name;
+        this.title = title;
+        this.folder = folder;
+        this.archive = null;
+        this.faces = faces;
+        this.back = back;
+        this.cacheKeys = null;
+    }
+
+    /**
+     * Constructor for a theme whose images are in an archive.
+     *
+     * @param name      The short name.
+     * @param title     The name shown in the menu.
+     * @param archive   The zip or jar archive.
+     * @param faces     The face entry names.
+     * @param back      The back entry name.
+     * @param cacheKeys The cache key of each face then the back.
+     */
+    Theme(String name, String title, File archive, String[] faces, String back, String[] cacheKeys) {
+        this.name = name;
+        this.title = title;
+        this.folder = null;
+        this.archive = archive;
+        this.faces = faces;
+        this.back = back;
+        this.cacheKeys = cacheKeys;
+    }
+
+    /**
+     * Returns the theme built into the game, the Lizard Ball Z cards in src/img2/.
+     *
+     * @return The built-in theme.
+     */
+    static Theme builtIn() {
+        return new Theme("lizardball", "Lizard Ball Z", "src/img2/", new String[]{
+                "beerus1.jpg", "broly1.jpg", "cell-max1.jpg", "frieza1.jpg", "gohan1.jpg",
+                "goku1.jpg", "jiren1.jpg", "marjinBuu1.jpg", "piccolo1.jpg", "vegeta1.jpg"
+        }, "backCard2.jpg");
+    }
+
+    public int faceCount() {
+        return faces.length;
+    }
+
+    /**
+     * Returns a face's name without its folder or extension, used as the card name.
+     *
+     * @param face The face index.
+     * @return The card name.
+     */
+    public String faceName(int face) {
+        String file = faces[face].substring(faces[face].lastIndexOf('/') + 1);
+        int dot = file.lastIndexOf('.');
+        return dot > 0 ? file.substring(0, dot) : file;
+    }
+
+    /**
+     * Returns a face image, decoding it on first use.
+     *
+     * @param face   The face index.
+     * @param width  The width to scale to.
+     * @param height The height to scale to.
+     * @return The scaled image.
+     */
+    public ImageIcon face(int face, int width, int height) {
+        return image(faces[face], archive == null ? null : cacheKeys[face], width, height);
+    }
+
+    /**
+     * Returns the back image, decoding it on first use.
+     *
+     * @param width  The width to scale to.
+     * @param height The height to scale to.
+     * @return The scaled image.
+     */
+    public ImageIcon back(int width, int height) {
+        return image(back, archive == null ? null : cacheKeys[faces.length], width, height);
+    }
+
+    /**
+     * Starts loading a face on the AssetLoader workers.
+     */
+    public CompletableFuture<ImageIcon> loadFace(int face, int width, int height) {
+        return CompletableFuture.supplyAsync(() -> face(face, width, height), AssetLoader.WORKERS);
+    }
+
+    /**
+     * Starts loading the back on the AssetLoader workers.
+     */
+    public CompletableFuture<ImageIcon> loadBack(int width, int height) {
+        return CompletableFuture.supplyAsync(() -> back(width, height), AssetLoader.WORKERS);
+    }
+
+    private ImageIcon image(String entry, String cacheKey, int width, int height) {
+        if (archive == null) {
+            return ImageCache.SHARED.get(folder + entry, width, height);
+        }
+        return ImageCache.SHARED.get(cacheKey, width, height, () -> decodeEntry(entry, width, height));
+    }
+
+    /**
+     * Decodes an image from the archive and scales it smoothly. An unreadable entry gives an empty image,
+     * like a missing image file does.
+     */
+    private ImageIcon decodeEntry(String entry, int width, int height) {
+        try (ZipFile zip = new ZipFile(archive)) {
+            ZipEntry zipEntry = zip.getEntry(entry);
+            if (zipEntry == null) throw new IOException(entry + " not found");
+            byte[] bytes;
+            try (InputStream in = zip.getInputStream(zipEntry)) {
+                bytes = in.readAllBytes();
+            }
+            Image img = new ImageIcon(bytes).getImage();
+            return new ImageIcon(img.getScaledInstance(width, height, Image.SCALE_SMOOTH));
+        } catch (IOException e) {
+            System.err.println("Could not read " + entry + " from " + archive + ": " + e.getMessage());
+            return new ImageIcon();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return title;
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * ThemeRegistry Class
+ * -
+ * Description: Finds the themes the game can be played with: the built-in theme plus every .zip and .jar
+ * archive in the themes folder (themes/, or -Dmindmatch.themeDir=<path>). Discovery reads only each
+ * archive's central directory and its theme.properties manifest; no image is decoded until a game shows
+ * it, so shipping many themes adds almost nothing to startup. Archives with a missing or broken manifest,
+ * or naming images they do not hold, are reported and skipped. The current theme is the built-in one,
+ * -Dmindmatch.theme=<name>, or whatever the menu selects.
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public class ThemeRegistry {
+
+    private static ThemeRegistry shared;
+
+    final List<Theme> themes;
+    private volatile Theme current;
+
+    /**
+     * Constructor for ThemeRegistry.
+     *
+     * @param themes The available themes, the first one is selected.
+     */
+    ThemeRegistry(List<Theme> themes) {
+        this.themes = Collections.unmodifiableList(new ArrayList<>(themes));
+        this.current = themes.get(0);
+    }
+
+    /**
+     * Returns the registry shared by the game, discovering the themes on first use.
+     *
+     * @return The shared registry.
+     */
+    public static synchronized ThemeRegistry shared() {
+        if (shared == null) {
+            List<Theme> themes = new ArrayList<>();
+            themes.add(Theme.builtIn());
+            themes.addAll(discover(new File(System.getProperty("mindmatch.themeDir", "themes"))));
+            shared = new ThemeRegistry(themes);
+            String selected = System.getProperty("mindmatch.theme");
+            if (selected != null && !shared.select(selected)) {
+                System.err.println("Theme " + selected + " not found, using " + shared.current().title);
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Reads the manifest of every theme archive in a folder.
+     *
+     * @param folder The themes folder, which need not exist.
+     * @return The valid themes, sorted by file name.
+     */
+    static List<Theme> discover(File folder) {
+        List<Theme> themes = new ArrayList<>();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(".zip") || name.endsWith(".jar"));
+        if (files == null) return themes;
+        Arrays.sort(files);
+        for (File file : files) {
+            try {
+                themes.add(readManifest(file));
+            } catch (IOException e) {
+                System.err.println("Theme " + file + " skipped: " + e.getMessage());
+            }
+        }
+        return themes;
+    }
+
+    /**
+     * Reads a theme archive's manifest and looks its images up in the central directory, without
+     * decompressing them.
+     *
+     * @param file The archive.
+     * @return The theme.
+     * @throws IOException If the archive cannot be read, has no valid manifest or lacks an image.
+     */
+    static Theme readManifest(File file) throws IOException {
+        try (ZipFile zip = new ZipFile(file)) {
+            ZipEntry manifestEntry = zip.getEntry(Theme.MANIFEST);
+            if (manifestEntry == null) throw new IOException("no " + Theme.MANIFEST);
+            Properties manifest = new Properties();
+            try (InputStream in = zip.getInputStream(manifestEntry)) {
+                manifest.load(in);
+            }
+
+            String name = required(manifest, "name");
+            String back = required(manifest, "back");
+            String[] faces = required(manifest, "faces").split("\\s*,\\s*");
+            String title = manifest.getProperty("title", name);
+
+            // Cache keys from the CRC and size stored in the central directory
+            String[] cacheKeys = new String[faces.length + 1];
+            for (int i = 0; i <= faces.length; i++) {
+                String entryName = i < faces.length ? faces[i] : back;
+                ZipEntry entry = zip.getEntry(entryName);
+                if (entry == null) throw new IOException(entryName + " listed in the manifest but not in the archive");
+                cacheKeys[i] = "zip:" + Long.toHexString(entry.getCrc()) + ":" + entry.getSize();
+            }
+            return new Theme(name, title, file, faces, back, cacheKeys);
+        }
+    }
+
+    private static String required(Properties manifest, String key) throws IOException {
+        String value = manifest.getProperty(key);
+        if (value == null || value.isBlank()) throw new IOException(Theme.MANIFEST + " has no " + key);
+        return value.trim();
+    }
+
+    public Theme current() {
+        return current;
+    }
+
+    /**
+     * Selects the theme used by the next game.
+     *
+     * @param name The theme's short name.
+     * @return True if the theme exists.
+     */
+    public boolean select(String name) {
+        for (Theme theme : themes) {
+            if (theme.name.equals(name)) {
+                current = theme;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * ThemeRegistryTester Class
+ * -
+ * Description: Tests theme discovery and loading on generated theme archives (the card images are not
+ * needed): fifty archives must be discovered without decoding any image, broken archives must be skipped,
+ * faces must be decoded on first use and then come from the cache, an image shared by several themes must
+ * be decoded once, and switching back to a theme must not decode anything again. Reports the discovery
+ * time. Runs without a display (java -ea ThemeRegistryTester).
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import javax.imageio.ImageIO;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+public class ThemeRegistryTester {
+
+    static final int THEMES = 50;
+    static final int FACES = 10;
+    static final int IMAGES = 12;  // Distinct images, each theme uses FACES of them plus the shared back
+
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        System.out.println("Starting Theme Registry Tester...");
+
+        File folder = Files.createTempDirectory("mindmatch-themes").toFile();
+        byte[][] images = new byte[IMAGES + 1][];
+        for (int i = 0; i <= IMAGES; i++) {
+            images[i] = jpeg(i);
+        }
+        for (int t = 0; t < THEMES; t++) {
+            writeTheme(new File(folder, String.format("theme%02d.zip", t)), t, images, true);
+        }
+
+        testBuiltIn();
+        List<Theme> themes = testDiscovery(folder, images);
+        testLazyLoading(themes.get(0));
+        testSharedImages(themes.get(0), themes.get(1));
+        testSwitching(themes);
+
+        System.out.println("All theme registry tests completed successfully.");
+    }
+
+    /**
+     * Checks the built-in theme still deals the Lizard Ball Z cards.
+     */
+    static void testBuiltIn() {
+        System.out.println("Testing built-in theme...");
+
+        Theme builtIn = Theme.builtIn();
+        assert builtIn.faceCount() == 10 : "Built-in theme has " + builtIn.faceCount() + " faces.";
+        assert builtIn.faceName(0).equals("beerus1") && builtIn.faceName(9).equals("vegeta1") : "Wrong card names.";
+        assert builtIn.archive == null && builtIn.folder.equals("src/img2/") : "Built-in theme is not the image folder.";
+    }
+
+    /**
+     * Checks every valid archive is found, broken ones are skipped, and no image is decoded.
+     */
+    static List<Theme> testDiscovery(File folder, byte[][] images) throws IOException {
+        System.out.println("Testing discovery...");
+
+        // Broken archives next to the valid ones
+        Files.write(new File(folder, "notazip.zip").toPath(), "not a zip".getBytes(StandardCharsets.UTF_8));
+        writeTheme(new File(folder, "zz-missing-image.zip"), THEMES, images, false);
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(new File(folder, "zz-no-manifest.jar")))) {
+            zip.putNextEntry(new ZipEntry("back.jpg"));
+            zip.write(images[IMAGES]);
+        }
+        Files.write(new File(folder, "readme.txt").toPath(), "ignored".getBytes(StandardCharsets.UTF_8));
+
+        long misses = ImageCache.SHARED.getMissCount();
+        long start = System.nanoTime();
+        List<Theme> themes = ThemeRegistry.discover(folder);
+        long nanos = System.nanoTime() - start;
+
+        assert themes.size() == THEMES : "Discovered " + themes.size() + " themes.";
+        assert ImageCache.SHARED.getMissCount() == misses : "Discovery decoded images.";
+        Theme first = themes.get(0);
+        assert first.name.equals("theme0") && first.title.equals("Theme 0") : "Manifest misread: " + first.name;
+        assert first.faceCount() == FACES && first.faceName(3).equals("face3") : "Faces misread.";
+        assert ThemeRegistry.discover(new File(folder, "missing")).isEmpty() : "Missing folder gave themes.";
+
+        System.out.printf("Discovered %d themes in %.1f ms%n", themes.size(), nanos / 1e6);
+        return themes;
+    }
+
+    /**
+     * Checks a face is decoded from the archive on first use and taken from the cache after.
+     */
+    static void testLazyLoading(Theme theme) {
+        System.out.println("Testing lazy loading...");
+
+        long misses = ImageCache.SHARED.getMissCount();
+        ImageIcon face = theme.loadFace(0, 90, 128).join();
+        assert ImageCache.SHARED.getMissCount() == misses + 1 : "Face was not decoded once.";
+        assert face.getIconWidth() == 90 && face.getIconHeight() == 128 : "Face has the wrong size.";
+        assert colourAtCentre(face).getRed() > 200 : "Face is not the archive's image.";
+
+        assert theme.face(0, 90, 128) == face : "Face was not cached.";
+        assert ImageCache.SHARED.getMissCount() == misses + 1 : "Cached face was decoded again.";
+    }
+
+    /**
+     * Checks an image shipped unchanged in two themes is decoded once.
+     */
+    static void testSharedImages(Theme first, Theme second) {
+        System.out.println("Testing shared images...");
+
+        ImageIcon back = first.back(90, 128);
+        long misses = ImageCache.SHARED.getMissCount();
+        assert second.back(90, 128) == back : "Shared back was decoded for each theme.";
+        assert second.face(0, 90, 128) == first.face(1, 90, 128) : "Shared face was decoded for each theme.";
+        assert ImageCache.SHARED.getMissCount() == misses + 1 : "Shared images were decoded more than once.";
+    }
+
+    /**
+     * Checks switching themes and back only decodes the images of the theme never shown before.
+     */
+    static void testSwitching(List<Theme> themes) {
+        System.out.println("Testing theme switching...");
+
+        ThemeRegistry registry = new ThemeRegistry(themes);
+        assert registry.current() == themes.get(0) : "First theme not selected.";
+        assert !registry.select("no-such-theme") && registry.current() == themes.get(0) : "Unknown theme selected.";
+
+        loadAll(registry.current());
+        assert registry.select("theme2");
+        loadAll(registry.current());
+        long misses = ImageCache.SHARED.getMissCount();
+        assert registry.select("theme0");
+        loadAll(registry.current());
+        assert registry.select("theme2");
+        loadAll(registry.current());
+        assert ImageCache.SHARED.getMissCount() == misses : "Switching back decoded images again.";
+    }
+
+    private static void loadAll(Theme theme) {
+        theme.loadBack(90, 128).join();
+        for (int face = 0; face < theme.faceCount(); face++) {
+            theme.loadFace(face, 90, 128).join();
+        }
+    }
+
+    /**
+     * Writes a theme archive whose faces are images t to t + FACES - 1 (wrapping) and whose back is the
+     * image every theme shares.
+     *
+     * @param complete False to leave the last face out of the archive while the manifest still lists it.
+     */
+    static void writeTheme(File file, int t, byte[][] images, boolean complete) throws IOException {
+        StringBuilder faces = new StringBuilder();
+        try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(file))) {
+            for (int f = 0; f < FACES; f++) {
+                faces.append(f == 0 ? "" : ", ").append("faces/face").append(f).append(".jpg");
+                if (!complete && f == FACES - 1) continue;
+                zip.putNextEntry(new ZipEntry("faces/face" + f + ".jpg"));
+                zip.write(images[(t + f) % IMAGES]);
+            }
+            zip.putNextEntry(new ZipEntry("back.jpg"));
+            zip.write(images[IMAGES]);
+            zip.putNextEntry(new ZipEntry(Theme.MANIFEST));
+            String manifest = "name=theme" + t + "\ntitle=Theme " + t + "\nback=back.jpg\nfaces=" + faces + "\n";
+            zip.write(manifest.getBytes(StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    /**
+     * Returns a distinct JPEG for each index; image 0 is mostly red.
+     */
+    static byte[] jpeg(int index) throws IOException {
+        BufferedImage image = new BufferedImage(180, 256, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(250 - index * 15, 30 + index * 15, 60));
+        g.fillRect(0, 0, 180, 256);
+        g.setColor(Color.BLACK);
+        g.drawString("Card " + index, 20, 30);
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+
+    private static Color colourAtCentre(ImageIcon icon) {
+        BufferedImage image = new BufferedImage(icon.getIconWidth(), icon.getIconHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.drawImage(icon.getImage(), 0, 0, null);
+        g.dispose();
+        return new Color(image.getRGB(icon.getIconWidth() / 2, icon.getIconHeight() / 2));
+    }
+}
@@ -0,0 +1,230 @@
+/**
+ * TournamentRunner Class
+ * -
+ * Description: Pits player models against each other in two-player games and reports win rates, mean
+ * errors and throughput. The two players take turns on one board: a turn is two flips, a player who finds
+ * a pair keeps the turn, and after a mismatch the turn passes. Both models are told about every flip,
+ * their own and their opponent's, just as two people watching the same board would see it. The player
+ * with more pairs wins.
+ * Each deal is played twice with the seats swapped, so neither model gains from moving first. Deals are
+ * seeded from the base seed and the deal number and played in parallel chunks on all cores, so a seed
+ * always gives the same standings. With a fixed seed the standings only move when the rules or the models
+ * change, and the games per second track engine speed, which makes the runner a regression benchmark.
+ * Usage: java TournamentRunner [games per pairing] [seed] [pairs]
+ * -
+ * Version: [V12]
+ * Author: [Romeo Maunick - RM]
+ * Date: [17/10/2026]
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+public class TournamentRunner {
+
+    /**
+     * The results of one model against another.
+     */
+    public static class Standing {
+        final String first;      // Model in seat A
+        final String second;     // Model in seat B
+        long games = 0;
+        long winsFirst = 0;
+        long winsSecond = 0;
+        long draws = 0;
+        long errorsFirst = 0;    // Mismatches made on A's turns
+        long errorsSecond = 0;   // Mismatches made on B's turns
+        long pairsFirst = 0;     // Pairs found by A
+        double seconds;
+
+        Standing(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        Standing merge(Standing other) {
+            games += other.games;
+            winsFirst += other.winsFirst;
+            winsSecond += other.winsSecond;
+            draws += other.draws;
+            errorsFirst += other.errorsFirst;
+            errorsSecond += other.errorsSecond;
+            pairsFirst += other.pairsFirst;
+            return this;
+        }
+
+        public double winRateFirst() {
+            return games == 0 ? 0 : winsFirst / (double) games;
+        }
+
+        public double winRateSecond() {
+            return games == 0 ? 0 : winsSecond / (double) games;
+        }
+
+        public double drawRate() {
+            return games == 0 ? 0 : draws / (double) games;
+        }
+
+        public double meanErrorsFirst() {
+            return games == 0 ? 0 : errorsFirst / (double) games;
+        }
+
+        public double meanErrorsSecond() {
+            return games == 0 ? 0 : errorsSecond / (double) games;
+        }
+
+        public double gamesPerSecond() {
+            return seconds == 0 ? 0 : games / seconds;
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 20250204L;
+        int pairs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+
+        List<Supplier<PlayerModel>> models = new ArrayList<>();
+        models.add(PerfectMemoryPlayer::new);
+        models.add(() -> new BoundedMemoryPlayer(8, 0.0));
+        models.add(() -> new BoundedMemoryPlayer(8, 0.05));
+        models.add(RandomPlayer::new);
+
+        System.out.println("Round robin of " + models.size() + " models, " + games + " games per pairing, "
+                + pairs + " pairs, seed " + seed + "...");
+        System.out.printf(Locale.ROOT, "%-20s %-20s %7s %7s %7s %8s %8s %12s%n",
+                "A", "B", "A wins", "B wins", "Draws", "A errors", "B errors", "Games/s");
+
+        long totalGames = 0;
+        double totalSeconds = 0;
+        for (int a = 0; a < models.size(); a++) {
+            for (int b = a + 1; b < models.size(); b++) {
+                Standing standing = play(pairs, models.get(a), models.get(b), games, seed);
+                printStanding(standing);
+                totalGames += standing.games;
+                totalSeconds += standing.seconds;
+            }
+        }
+        System.out.printf(Locale.ROOT, "%nTotal: %d games in %.2f s, %.0f games/s%n", totalGames, totalSeconds,
+                totalGames / totalSeconds);
+    }
+
+    /**
+     * Plays a number of games between two models, in parallel over all cores. Game 2k and 2k+1 share a
+     * deal, with A moving first in the even game and B in the odd one.
+     *
+     * @param pairs  The number of pairs on the board.
+     * @param first  Creates the model in seat A, one per worker.
+     * @param second Creates the model in seat B, one per worker.
+     * @param games  The number of games to play.
+     * @param seed   The base seed, the same seed always gives the same standing.
+     * @return The wins, draws and errors of both models.
+     */
+    public static Standing play(int pairs, Supplier<PlayerModel> first, Supplier<PlayerModel> second,
+                                long games, long seed) {
+        long start = System.nanoTime();
+        int chunkSize = MonteCarloSimulator.CHUNK_SIZE; // Even, so both games of a deal share a chunk
+        int chunks = (int) ((games + chunkSize - 1) / chunkSize);
+        String firstName = first.get().toString();
+        String secondName = second.get().toString();
+
+        Standing standing = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    long from = (long) chunk * chunkSize;
+                    long to = Math.min(games, from + chunkSize);
+                    return playChunk(pairs, first.get(), second.get(), from, to, seed, firstName, secondName);
+                })
+                .reduce(Standing::merge)
+                .orElseGet(() -> new Standing(firstName, secondName));
+
+        standing.seconds = (System.nanoTime() - start) / 1e9;
+        return standing;
+    }
+
+    /**
+     * Plays games from (inclusive) to to (exclusive) on one thread, reusing one engine and one model per seat.
+     */
+    static Standing playChunk(int pairs, PlayerModel first, PlayerModel second, long from, long to, long seed,
+                              String firstName, String secondName) {
+        Standing standing = new Standing(firstName, secondName);
+        GameEngine engine = new GameEngine(pairs);
+        PlayerModel[] seats = {first, second};
+        long[] pairsFound = new long[2];
+        long[] errors = new long[2];
+        for (long game = from; game < to; game++) {
+            SplittableRandom random = new SplittableRandom(MonteCarloSimulator.gameSeed(seed, game / 2));
+            pairsFound[0] = pairsFound[1] = 0;
+            errors[0] = errors[1] = 0;
+            playGame(engine, seats, (int) (game % 2), random, pairsFound, errors);
+
+            standing.games++;
+            if (pairsFound[0] > pairsFound[1]) {
+                standing.winsFirst++;
+            } else if (pairsFound[1] > pairsFound[0]) {
+                standing.winsSecond++;
+            } else {
+                standing.draws++;
+            }
+            standing.errorsFirst += errors[0];
+            standing.errorsSecond += errors[1];
+            standing.pairsFirst += pairsFound[0];
+        }
+        return standing;
+    }
+
+    /**
+     * Plays one two-player game to the end. The deal's seed is the generator's first draw, and the deal
+     * starts from the canonical order, so both seatings of a deal see the same board whatever game the
+     * engine played before.
+     *
+     * @param engine     The engine to play on, reset by this method.
+     * @param seats      The two models.
+     * @param firstMover The seat that moves first, 0 or 1.
+     * @param random     The game's generator, used for the deal and the models' choices.
+     * @param pairsFound Incremented per seat for each pair found.
+     * @param errors     Incremented per seat for each mismatch.
+     */
+    public static void playGame(GameEngine engine, PlayerModel[] seats, int firstMover, SplittableRandom random,
+                                long[] pairsFound, long[] errors) {
+        engine.reset();
+        engine.deal(random.nextLong());
+        engine.resolve(); // End the face-up preview
+        seats[0].newGame(engine.size());
+        seats[1].newGame(engine.size());
+
+        int turn = firstMover;
+        int result;
+        do {
+            PlayerModel player = seats[turn];
+            int position = player.chooseTile(engine, random);
+            result = engine.flip(position);
+            if (result == GameEngine.IGNORED) {
+                throw new IllegalStateException(player + " chose a face-up tile " + position);
+            }
+            int cardId = engine.cardAt(position);
+            seats[0].cardSeen(position, cardId, result);
+            seats[1].cardSeen(position, cardId, result);
+
+            if (result == GameEngine.MATCH || result == GameEngine.GAME_OVER) {
+                pairsFound[turn]++; // Finding a pair keeps the turn
+            } else if (result == GameEngine.MISMATCH) {
+                errors[turn]++;
+                engine.resolve(); // Hide delay expires straight away
+                turn = 1 - turn;
+            }
+        } while (result != GameEngine.GAME_OVER);
+    }
+
+    /**
+     * Prints one line of the standings table.
+     */
+    static void printStanding(Standing standing) {
+        System.out.printf(Locale.ROOT, "%-20s %-20s %6.2f%% %6.2f%% %6.2f%% %8.3f %8.3f %12.0f%n",
+                standing.first, standing.second, 100 * standing.winRateFirst(), 100 * standing.winRateSecond(),
+                100 * standing.drawRate(), standing.meanErrorsFirst(), standing.meanErrorsSecond(),
+                standing.gamesPerSecond());
+    }
+}